@@ -0,0 +1,145 @@
+package practica9;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Compara {@link Arreglos#busquedaBinaria}, {@link IndiceEytzingerInt} e
+ * {@link IndiceEytzingerLong} contra {@link Arrays#binarySearch}.</p>
+ *
+ * <p>Cada invocación hace {@link #BUSQUEDAS} búsquedas de elementos al azar,
+ * la mitad de ellos en el arreglo, así que los tiempos son por búsqueda. Las
+ * búsquedas se toman en orden de {@link #BUSCADOS} elementos distintos, para
+ * que en los arreglos grandes no quepan en caché los caminos recorridos. Para
+ * medir arreglos más grandes hay que darle más memoria a la máquina
+ * virtual, por ejemplo con <tt>-p n=100000000 -jvmArgs -Xmx4g</tt>.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusquedaBenchmark {
+
+    /** Número de búsquedas por invocación. */
+    public static final int BUSQUEDAS = 1024;
+    /** Número de elementos a buscar; es una potencia de dos. */
+    public static final int BUSCADOS = 1 << 20;
+
+    /* El número de elementos. */
+    @Param({"1000", "1000000", "10000000"})
+    public int n;
+
+    /*
+     * El tipo de entrada: distintos, o repetidos, donde cada elemento
+     * aparece cuatro veces.
+     */
+    @Param({"distintos", "repetidos"})
+    public String entrada;
+
+    private int[] enteros;
+    private long[] largos;
+    private IndiceEytzingerInt indiceEnteros;
+    private IndiceEytzingerLong indiceLargos;
+    private int[] buscados;
+    private long[] buscadosLargos;
+    /* Posición en los buscados donde empieza la siguiente invocación. */
+    private int siguiente;
+
+    /* Genera los arreglos ordenados, sus índices y los elementos a buscar. */
+    @Setup public void prepara() {
+      int paso = entrada.equals("repetidos") ? 4 : 1;
+      enteros = new int[n];
+      for(int i = 0; i < n; i++)
+        enteros[i] = 2 * (i / paso);
+      largos = Entradas.largos(enteros);
+      indiceEnteros = new IndiceEytzingerInt(enteros);
+      indiceLargos = new IndiceEytzingerLong(largos);
+      /* Los pares están en el arreglo y los impares no. */
+      Random r = new Random(Entradas.SEMILLA);
+      buscados = new int[BUSCADOS];
+      for(int i = 0; i < BUSCADOS; i++)
+        buscados[i] = enteros[r.nextInt(n)] + r.nextInt(2);
+      buscadosLargos = Entradas.largos(buscados);
+    }
+
+    @Benchmark @OperationsPerInvocation(BUSQUEDAS)
+    public int busquedaBinariaEnteros() {
+      int s = 0;
+      for(int i = 0; i < BUSQUEDAS; i++){
+        int e = buscados[(siguiente + i) & (BUSCADOS - 1)];
+        s += Arreglos.busquedaBinaria(enteros, e);
+      }
+      siguiente += BUSQUEDAS;
+      return s;
+    }
+
+    @Benchmark @OperationsPerInvocation(BUSQUEDAS)
+    public int eytzingerEnteros() {
+      int s = 0;
+      for(int i = 0; i < BUSQUEDAS; i++){
+        int e = buscados[(siguiente + i) & (BUSCADOS - 1)];
+        s += indiceEnteros.busca(e);
+      }
+      siguiente += BUSQUEDAS;
+      return s;
+    }
+
+    @Benchmark @OperationsPerInvocation(BUSQUEDAS)
+    public int arraysBinarySearchEnteros() {
+      int s = 0;
+      for(int i = 0; i < BUSQUEDAS; i++){
+        int e = buscados[(siguiente + i) & (BUSCADOS - 1)];
+        s += Arrays.binarySearch(enteros, e);
+      }
+      siguiente += BUSQUEDAS;
+      return s;
+    }
+
+    @Benchmark @OperationsPerInvocation(BUSQUEDAS)
+    public int busquedaBinariaLargos() {
+      int s = 0;
+      for(int i = 0; i < BUSQUEDAS; i++){
+        long e = buscadosLargos[(siguiente + i) & (BUSCADOS - 1)];
+        s += Arreglos.busquedaBinaria(largos, e);
+      }
+      siguiente += BUSQUEDAS;
+      return s;
+    }
+
+    @Benchmark @OperationsPerInvocation(BUSQUEDAS)
+    public int eytzingerLargos() {
+      int s = 0;
+      for(int i = 0; i < BUSQUEDAS; i++){
+        long e = buscadosLargos[(siguiente + i) & (BUSCADOS - 1)];
+        s += indiceLargos.busca(e);
+      }
+      siguiente += BUSQUEDAS;
+      return s;
+    }
+
+    @Benchmark @OperationsPerInvocation(BUSQUEDAS)
+    public int arraysBinarySearchLargos() {
+      int s = 0;
+      for(int i = 0; i < BUSQUEDAS; i++){
+        long e = buscadosLargos[(siguiente + i) & (BUSCADOS - 1)];
+        s += Arrays.binarySearch(largos, e);
+      }
+      siguiente += BUSQUEDAS;
+      return s;
+    }
+}
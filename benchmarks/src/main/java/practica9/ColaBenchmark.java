@@ -0,0 +1,56 @@
+package practica9;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Compara a {@link Bicola} contra {@link Lista} usadas como colas: cada
+ * operación agrega un elemento al final y elimina el primero, con
+ * <tt>n</tt> elementos en la cola.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColaBenchmark {
+
+    /* El número de elementos en la cola. */
+    @Param({"16", "1000", "100000"})
+    public int n;
+
+    private Bicola<Integer> bicola;
+    private Lista<Integer> lista;
+    private Integer elemento = 7;
+
+    /* Llena las colas. */
+    @Setup public void prepara() {
+      bicola = new Bicola<>();
+      lista = new Lista<>();
+      for(int i = 0; i < n; i++){
+        bicola.agregaFinal(i);
+        lista.agregaFinal(i);
+      }
+    }
+
+    @Benchmark public Integer bicola() {
+      bicola.agregaFinal(elemento);
+      return bicola.eliminaPrimero();
+    }
+
+    @Benchmark public Integer lista() {
+      lista.agregaFinal(elemento);
+      return lista.eliminaPrimero();
+    }
+}
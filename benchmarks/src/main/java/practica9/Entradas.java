@@ -0,0 +1,78 @@
+package practica9;
+
+import java.util.Random;
+
+/**
+ * <p>Clase con los datos de entrada que comparten los benchmarks.</p>
+ *
+ * <p>Todas las entradas se generan con la misma semilla, así que dos
+ * corridas miden exactamente los mismos datos.</p>
+ */
+public class Entradas {
+
+    /** Semilla para todos los generadores de números aleatorios. */
+    public static final long SEMILLA = 310215833L;
+
+    /* Clase con métodos estáticos nada más. */
+    private Entradas() {}
+
+    /**
+     * Regresa un arreglo de enteros del tipo de entrada recibido.
+     * @param tipo <tt>ordenado</tt>, <tt>reverso</tt>, <tt>aleatorio</tt> o
+     *        <tt>repetidos</tt>; este último sólo tiene 16 valores distintos.
+     * @param n el número de elementos.
+     * @return un arreglo de enteros del tipo de entrada recibido.
+     * @throws IllegalArgumentException si el tipo no es válido.
+     */
+    public static int[] enteros(String tipo, int n) {
+      Random r = new Random(SEMILLA);
+      int[] a = new int[n];
+      for(int i = 0; i < n; i++){
+        switch(tipo){
+          case "ordenado":  a[i] = i;             break;
+          case "reverso":   a[i] = n - i;         break;
+          case "aleatorio": a[i] = r.nextInt();   break;
+          case "repetidos": a[i] = r.nextInt(16); break;
+          default:
+            throw new IllegalArgumentException(tipo);
+        }
+      }
+      return a;
+    }
+
+    /**
+     * Regresa el arreglo de enteros recibido como enteros largos.
+     * @param a el arreglo a convertir.
+     * @return un arreglo de enteros largos con los mismos valores.
+     */
+    public static long[] largos(int[] a) {
+      long[] l = new long[a.length];
+      for(int i = 0; i < a.length; i++)
+        l[i] = a[i];
+      return l;
+    }
+
+    /**
+     * Regresa el arreglo de enteros recibido como dobles.
+     * @param a el arreglo a convertir.
+     * @return un arreglo de dobles con los mismos valores, divididos entre 8.
+     */
+    public static double[] dobles(int[] a) {
+      double[] d = new double[a.length];
+      for(int i = 0; i < a.length; i++)
+        d[i] = a[i] / 8.0;
+      return d;
+    }
+
+    /**
+     * Regresa el arreglo de enteros recibido como enteros envueltos.
+     * @param a el arreglo a convertir.
+     * @return un arreglo de {@link Integer} con los mismos valores.
+     */
+    public static Integer[] envueltos(int[] a) {
+      Integer[] e = new Integer[a.length];
+      for(int i = 0; i < a.length; i++)
+        e[i] = a[i];
+      return e;
+    }
+}
@@ -0,0 +1,26 @@
+package practica9;
+
+/**
+ * <p>Versión mínima de la excepción para índices inválidos que provee el
+ * curso.</p>
+ */
+public class ExcepcionIndiceInvalido extends IndexOutOfBoundsException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor vacío.
+     */
+    public ExcepcionIndiceInvalido() {
+      super();
+    }
+
+    /**
+     * Constructor que recibe un mensaje para el usuario.
+     * @param mensaje un mensaje que verá el usuario cuando ocurra la
+     *        excepción.
+     */
+    public ExcepcionIndiceInvalido(String mensaje) {
+      super(mensaje);
+    }
+}
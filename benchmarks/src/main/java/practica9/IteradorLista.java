@@ -0,0 +1,36 @@
+package practica9;
+
+import java.util.Iterator;
+
+/**
+ * <p>Versión mínima de la interfaz para iteradores de lista que provee el
+ * curso, con sólo lo que usan las clases de practica9 que se miden.</p>
+ *
+ * <p>Un iterador de lista se puede recorrer en ambas direcciones, y moverse
+ * al inicio o al final de la lista.</p>
+ */
+public interface IteradorLista<T> extends Iterator<T> {
+
+    /**
+     * Nos dice si hay un elemento anterior.
+     * @return <code>true</code> si el iterador tiene un elemento anterior,
+     *         <code>false</code> en otro caso.
+     */
+    public boolean hasPrevious();
+
+    /**
+     * Regresa el elemento anterior del iterador.
+     * @return el elemento anterior del iterador.
+     */
+    public T previous();
+
+    /**
+     * Mueve el iterador al inicio de la lista.
+     */
+    public void start();
+
+    /**
+     * Mueve el iterador al final de la lista.
+     */
+    public void end();
+}
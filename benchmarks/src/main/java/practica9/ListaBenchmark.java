@@ -0,0 +1,136 @@
+package practica9;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Compara las operaciones comunes de {@link Lista}, {@link
+ * ListaDesenrollada} y {@link ListaOrdenada}.</p>
+ *
+ * <p>Los benchmarks que construyen una lista miden la memoria por elemento
+ * si se corren con <tt>-prof gc</tt>: <tt>gc.alloc.rate.norm</tt> entre
+ * <tt>n</tt>.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListaBenchmark {
+
+    /* El número de elementos. */
+    @Param({"1000", "100000"})
+    public int n;
+
+    private Integer[] elementos;
+    private Lista<Integer> lista;
+    private ListaDesenrollada<Integer> desenrollada;
+    private ListaOrdenada<Integer> ordenada;
+    /* Elemento que no está en las listas, para recorrerlas completas. */
+    private Integer ausente;
+
+    /* Genera las listas originales. */
+    @Setup public void prepara() {
+      elementos = Entradas.envueltos(Entradas.enteros("aleatorio", n));
+      lista = new Lista<>();
+      desenrollada = new ListaDesenrollada<>();
+      ordenada = new ListaOrdenada<>();
+      int maximo = Integer.MIN_VALUE;
+      for(Integer e : elementos){
+        lista.agregaFinal(e);
+        desenrollada.agregaFinal(e);
+        ordenada.agrega(e);
+        maximo = Math.max(maximo, e);
+      }
+      ausente = maximo == Integer.MAX_VALUE ? Integer.MIN_VALUE : maximo + 1;
+    }
+
+    @Benchmark public Lista<Integer> listaAgregaFinal() {
+      Lista<Integer> l = new Lista<>();
+      for(Integer e : elementos)
+        l.agregaFinal(e);
+      return l;
+    }
+
+    @Benchmark public ListaDesenrollada<Integer> desenrolladaAgregaFinal() {
+      ListaDesenrollada<Integer> l = new ListaDesenrollada<>();
+      for(Integer e : elementos)
+        l.agregaFinal(e);
+      return l;
+    }
+
+    @Benchmark public ListaOrdenada<Integer> ordenadaAgrega() {
+      ListaOrdenada<Integer> l = new ListaOrdenada<>();
+      for(Integer e : elementos)
+        l.agrega(e);
+      return l;
+    }
+
+    /* Con el dedo, el recorrido por índices cuesta O(1) por elemento. */
+    @Benchmark public long listaGetSecuencial() {
+      long s = 0;
+      for(int i = 0; i < lista.getLongitud(); i++)
+        s += lista.get(i);
+      return s;
+    }
+
+    @Benchmark public long desenrolladaGetSecuencial() {
+      long s = 0;
+      for(int i = 0; i < desenrollada.getLongitud(); i++)
+        s += desenrollada.get(i);
+      return s;
+    }
+
+    @Benchmark public long listaRecorre() {
+      long s = 0;
+      for(Integer e : lista)
+        s += e;
+      return s;
+    }
+
+    @Benchmark public long desenrolladaRecorre() {
+      long s = 0;
+      for(Integer e : desenrollada)
+        s += e;
+      return s;
+    }
+
+    @Benchmark public boolean listaContiene() {
+      return lista.contiene(ausente);
+    }
+
+    @Benchmark public boolean desenrolladaContiene() {
+      return desenrollada.contiene(ausente);
+    }
+
+    @Benchmark public boolean ordenadaContiene() {
+      return ordenada.contiene(ausente);
+    }
+
+    @Benchmark public Lista<Integer> listaMergeSort() {
+      return Lista.mergeSort(lista);
+    }
+
+    @Benchmark public ListaDesenrollada<Integer> desenrolladaMergeSort() {
+      return ListaDesenrollada.mergeSort(desenrollada);
+    }
+
+    @Benchmark public Lista<Integer> listaCopia() {
+      return lista.copia();
+    }
+
+    @Benchmark public ListaDesenrollada<Integer> desenrolladaCopia() {
+      return desenrollada.copia();
+    }
+}
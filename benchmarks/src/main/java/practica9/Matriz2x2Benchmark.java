@@ -0,0 +1,48 @@
+package practica9;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Mide las operaciones de {@link Matriz2x2}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Matriz2x2Benchmark {
+
+    /* Clase Exponente para que el parámetro sólo multiplique a potencia. */
+    @State(Scope.Thread)
+    public static class Exponente {
+      @Param({"2", "16", "1024"})
+      public int exponente;
+    }
+
+    /* Las matrices no son constantes, para que no se evalúen al compilar. */
+    private Matriz2x2 m = new Matriz2x2(1.0, 1.0, 1.0, 0.0);
+    private Matriz2x2 n = new Matriz2x2(0.5, -2.0, 3.0, 4.0);
+
+    @Benchmark public Matriz2x2 multiplica() {
+      return m.multiplica(n);
+    }
+
+    @Benchmark public Matriz2x2 potencia(Exponente e) {
+      return m.potencia(e.exponente);
+    }
+
+    @Benchmark public Matriz2x2 inversa() {
+      return n.inversa();
+    }
+}
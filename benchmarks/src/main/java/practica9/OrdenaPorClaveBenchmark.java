@@ -0,0 +1,107 @@
+package practica9;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Compara los ordenamientos por clave de {@link Arreglos} contra {@link
+ * Arrays#sort(Object[], Comparator)} con el comparador equivalente, que
+ * extrae las claves en cada comparación.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrdenaPorClaveBenchmark {
+
+    /* Clase Registro para los elementos a ordenar, con una clave de cada tipo. */
+    public static class Registro {
+      public final String nombre;
+      public final int cuenta;
+      public final double promedio;
+
+      public Registro(String nombre, int cuenta, double promedio) {
+        this.nombre = nombre;
+        this.cuenta = cuenta;
+        this.promedio = promedio;
+      }
+
+      public String getNombre() {
+        return nombre;
+      }
+
+      public int getCuenta() {
+        return cuenta;
+      }
+
+      public double getPromedio() {
+        return promedio;
+      }
+    }
+
+    /* El número de elementos. */
+    @Param({"1000", "100000", "1000000"})
+    public int n;
+
+    private Registro[] registros;
+
+    /* Genera los registros originales. */
+    @Setup public void prepara() {
+      Random r = new Random(Entradas.SEMILLA);
+      registros = new Registro[n];
+      for(int i = 0; i < n; i++)
+        registros[i] = new Registro("Nombre" + r.nextInt(n),
+                                    r.nextInt(), r.nextInt(1001) / 100.0);
+    }
+
+    @Benchmark public Registro[] ordenaPorClave() {
+      Registro[] a = registros.clone();
+      Arreglos.ordenaPorClave(a, Registro::getNombre);
+      return a;
+    }
+
+    @Benchmark public Registro[] arraysSortPorNombre() {
+      Registro[] a = registros.clone();
+      Arrays.sort(a, Comparator.comparing(Registro::getNombre));
+      return a;
+    }
+
+    @Benchmark public Registro[] ordenaPorClaveEntera() {
+      Registro[] a = registros.clone();
+      Arreglos.ordenaPorClaveEntera(a, Registro::getCuenta);
+      return a;
+    }
+
+    @Benchmark public Registro[] arraysSortPorCuenta() {
+      Registro[] a = registros.clone();
+      Arrays.sort(a, Comparator.comparingInt(Registro::getCuenta));
+      return a;
+    }
+
+    @Benchmark public Registro[] ordenaPorClaveDoble() {
+      Registro[] a = registros.clone();
+      Arreglos.ordenaPorClaveDoble(a, Registro::getPromedio);
+      return a;
+    }
+
+    @Benchmark public Registro[] arraysSortPorPromedio() {
+      Registro[] a = registros.clone();
+      Arrays.sort(a, Comparator.comparingDouble(Registro::getPromedio));
+      return a;
+    }
+}
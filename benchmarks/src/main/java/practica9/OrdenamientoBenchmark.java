@@ -0,0 +1,100 @@
+package practica9;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Compara el <em>introsort</em> de {@link Arreglos#quickSort} y sus
+ * versiones para arreglos primitivos contra {@link Arrays#sort}.</p>
+ *
+ * <p>Cada medición ordena una copia del arreglo original; el costo de la
+ * copia es el mismo para los dos lados de la comparación.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrdenamientoBenchmark {
+
+    /* El número de elementos. */
+    @Param({"1000", "100000", "1000000"})
+    public int n;
+
+    /* El tipo de entrada; ver Entradas.enteros. */
+    @Param({"ordenado", "reverso", "aleatorio", "repetidos"})
+    public String entrada;
+
+    private Integer[] envueltos;
+    private int[] enteros;
+    private long[] largos;
+    private double[] dobles;
+
+    /* Genera los arreglos originales. */
+    @Setup public void prepara() {
+      enteros = Entradas.enteros(entrada, n);
+      envueltos = Entradas.envueltos(enteros);
+      largos = Entradas.largos(enteros);
+      dobles = Entradas.dobles(enteros);
+    }
+
+    @Benchmark public Integer[] quickSortObjetos() {
+      Integer[] a = envueltos.clone();
+      Arreglos.quickSort(a);
+      return a;
+    }
+
+    @Benchmark public Integer[] arraysSortObjetos() {
+      Integer[] a = envueltos.clone();
+      Arrays.sort(a);
+      return a;
+    }
+
+    @Benchmark public int[] quickSortEnteros() {
+      int[] a = enteros.clone();
+      Arreglos.quickSort(a);
+      return a;
+    }
+
+    @Benchmark public int[] arraysSortEnteros() {
+      int[] a = enteros.clone();
+      Arrays.sort(a);
+      return a;
+    }
+
+    @Benchmark public long[] quickSortLargos() {
+      long[] a = largos.clone();
+      Arreglos.quickSort(a);
+      return a;
+    }
+
+    @Benchmark public long[] arraysSortLargos() {
+      long[] a = largos.clone();
+      Arrays.sort(a);
+      return a;
+    }
+
+    @Benchmark public double[] quickSortDobles() {
+      double[] a = dobles.clone();
+      Arreglos.quickSort(a);
+      return a;
+    }
+
+    @Benchmark public double[] arraysSortDobles() {
+      double[] a = dobles.clone();
+      Arrays.sort(a);
+      return a;
+    }
+}
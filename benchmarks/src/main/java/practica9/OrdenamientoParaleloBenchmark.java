@@ -0,0 +1,95 @@
+package practica9;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Mide cómo escalan {@link Arreglos#ordenaParalelo} y {@link
+ * Lista#ordenaParalelo} con el número de hilos, contra sus versiones
+ * secuenciales y {@link Arrays#parallelSort}.</p>
+ *
+ * <p>Los ordenamientos paralelos corren en una alberca con
+ * <tt>hilos</tt> hilos; {@link Arrays#parallelSort} siempre usa la alberca
+ * común. Cada medición ordena una copia del arreglo o de la lista
+ * original.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrdenamientoParaleloBenchmark {
+
+    /* El número de elementos. */
+    @Param({"1000000"})
+    public int n;
+
+    /* El número de hilos de la alberca. */
+    @Param({"1", "2", "4", "8", "16"})
+    public int hilos;
+
+    private ForkJoinPool alberca;
+    private Integer[] arreglo;
+    private Lista<Integer> lista;
+
+    /* Genera los datos originales y la alberca. */
+    @Setup public void prepara() {
+      alberca = new ForkJoinPool(hilos);
+      arreglo = Entradas.envueltos(Entradas.enteros("aleatorio", n));
+      lista = new Lista<>();
+      for(Integer e : arreglo)
+        lista.agregaFinal(e);
+    }
+
+    /* Termina los hilos de la alberca. */
+    @TearDown public void termina() {
+      alberca.shutdown();
+    }
+
+    @Benchmark public Integer[] arreglosQuickSort() {
+      Integer[] a = arreglo.clone();
+      Arreglos.quickSort(a);
+      return a;
+    }
+
+    @Benchmark public Integer[] arreglosOrdenaParalelo() {
+      Integer[] a = arreglo.clone();
+      Arreglos.ordenaParalelo(a, Comparator.naturalOrder(), alberca,
+                              Arreglos.UMBRAL_PARALELO);
+      return a;
+    }
+
+    @Benchmark public Integer[] arraysParallelSort() {
+      Integer[] a = arreglo.clone();
+      Arrays.parallelSort(a);
+      return a;
+    }
+
+    @Benchmark public Lista<Integer> listaOrdena() {
+      Lista<Integer> l = lista.copia();
+      l.ordena();
+      return l;
+    }
+
+    @Benchmark public Lista<Integer> listaOrdenaParalelo() {
+      Lista<Integer> l = lista.copia();
+      l.ordenaParalelo(Comparator.naturalOrder(), alberca,
+                       Lista.UMBRAL_PARALELO);
+      return l;
+    }
+}
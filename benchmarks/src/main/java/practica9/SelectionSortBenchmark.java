@@ -0,0 +1,64 @@
+package practica9;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Mide {@link Arreglos#selectionSort} contra {@link Arrays#sort}. Es
+ * cuadrático, así que se separa de {@link OrdenamientoBenchmark} para usar
+ * tamaños más chicos.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectionSortBenchmark {
+
+    /* El número de elementos. */
+    @Param({"100", "1000", "10000"})
+    public int n;
+
+    /* El tipo de entrada; ver Entradas.enteros. */
+    @Param({"ordenado", "reverso", "aleatorio", "repetidos"})
+    public String entrada;
+
+    private Integer[] envueltos;
+    private int[] enteros;
+
+    /* Genera los arreglos originales. */
+    @Setup public void prepara() {
+      enteros = Entradas.enteros(entrada, n);
+      envueltos = Entradas.envueltos(enteros);
+    }
+
+    @Benchmark public Integer[] selectionSortObjetos() {
+      Integer[] a = envueltos.clone();
+      Arreglos.selectionSort(a);
+      return a;
+    }
+
+    @Benchmark public int[] selectionSortEnteros() {
+      int[] a = enteros.clone();
+      Arreglos.selectionSort(a);
+      return a;
+    }
+
+    @Benchmark public int[] arraysSortEnteros() {
+      int[] a = enteros.clone();
+      Arrays.sort(a);
+      return a;
+    }
+}
@@ -1,3 +1,6 @@
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 /**
  * <p>Clase para listas doblemente ligadas de cadenas.</p>
  *
@@ -6,54 +9,466 @@
  * lista, y otras operaciones básicas.</p>
  *
  * <p>Las listas tienen un iterador para poder recorrerlas.</p>
+ *
+ * <p>Para ocupar poca memoria, la lista no guarda un objeto {@link String} ni
+ * un nodo por elemento. El texto de todas sus cadenas se guarda en UTF-8 en un
+ * solo arreglo de bytes, y cada elemento es una <em>entrada</em>: una posición
+ * en arreglos de enteros con el desplazamiento y el tamaño de sus bytes, y las
+ * entradas anterior y siguiente. Las búsquedas comparan bytes directamente, y
+ * las cadenas sólo se construyen cuando la lista las regresa. Las cadenas con
+ * sustitutos UTF-16 sin pareja no sobreviven la codificación en UTF-8.</p>
+ *
+ * <p>Opcionalmente, la lista puede mantener un índice (ver {@link #indexa}):
+ * un árbol de prefijos sobre los bytes de sus cadenas, con el que {@link
+ * #contiene}, {@link #indiceDe}, {@link #elimina} y {@link #conPrefijo}
+ * cuestan un tiempo proporcional al tamaño de la cadena buscada y no al de la
+ * lista.</p>
  */
 public class ListaCadena {
 
-    /* Clase Nodo privada para uso interno de la clase ListaCadena. */
-    private class Nodo {
-        public String elemento;
-        public Nodo anterior;
-        public Nodo siguiente;
-
-        public Nodo(String elemento) {
-            this.elemento = elemento;
-        }
-    }
-
+    /* Entrada que indica que no hay entrada. */
+    private static final int NINGUNA = -1;
+    /* Tamaño que indica que el elemento de la entrada es null. */
+    private static final int NULA = -1;
+    /* Capacidad inicial de los arreglos de entradas. */
+    private static final int ENTRADAS_INICIALES = 16;
+    /* Capacidad inicial del arreglo de bytes. */
+    private static final int BYTES_INICIALES = 256;
+    /* Capacidad máxima del arreglo de bytes. */
+    private static final int BYTES_MAXIMOS = Integer.MAX_VALUE - 8;
+
+    /* Bytes en UTF-8 de las cadenas de la lista. */
+    private byte[] bytes;
+    /* Número de bytes usados del arreglo de bytes. */
+    private int bytesUsados;
+    /* Número de bytes usados que eran de elementos eliminados. */
+    private int bytesMuertos;
+    /* Desplazamiento en el arreglo de bytes de cada entrada. */
+    private int[] desplazamientos;
+    /* Número de bytes de cada entrada, o NULA. */
+    private int[] tamanos;
+    /* Entrada anterior de cada entrada. */
+    private int[] anteriores;
+    /* Entrada siguiente de cada entrada; en las libres, la siguiente libre. */
+    private int[] siguientes;
+    /* Número de entradas que se han usado alguna vez. */
+    private int entradasUsadas;
+    /* Primera entrada libre para reutilizar. */
+    private int libre;
     /* Primer elemento de la lista. */
-    private Nodo cabeza;
+    private int cabeza;
     /* Último elemento de la lista. */
-    private Nodo rabo;
-    /* Nodo iterador. */
-    private Nodo iterador;
+    private int rabo;
+    /* Entrada iterador. */
+    private int iterador;
     /* Número de elementos en la lista. */
     private int longitud;
 
+    /*
+     * El índice, si la lista está indexada; si no, todos sus arreglos son
+     * null. Sus nodos forman un árbol de prefijos sobre los bytes de las
+     * cadenas; la raíz es el nodo 0 y corresponde a la cadena vacía. Los
+     * elementos null no están en el árbol.
+     */
+    /* Primer hijo de cada nodo; en los libres, el siguiente libre. */
+    private int[] hijos;
+    /* Siguiente hermano de cada nodo. */
+    private int[] hermanos;
+    /* Byte con el que se llega a cada nodo desde su padre. */
+    private byte[] etiquetas;
+    /* Número de elementos con el prefijo de cada nodo. */
+    private int[] cuentas;
+    /* Primera entrada de la lista con la cadena de cada nodo, o NINGUNA. */
+    private int[] primeras;
+    /* Última entrada de la lista con la cadena de cada nodo, o NINGUNA. */
+    private int[] ultimas;
+    /* Número de nodos que se han usado alguna vez. */
+    private int nodosUsados;
+    /* Primer nodo libre para reutilizar. */
+    private int nodoLibre;
+    /* Entrada anterior con la misma cadena de cada entrada. */
+    private int[] anterioresIguales;
+    /* Entrada siguiente con la misma cadena de cada entrada. */
+    private int[] siguientesIguales;
+    /* Número de cada entrada; crecen de la cabeza al rabo. */
+    private int[] numeros;
+    /* Nos dice si los números son consecutivos, así que dan los índices. */
+    private boolean numerosValidos;
+
+    /**
+     * Constructor único.
+     */
+    public ListaCadena() {
+        inicializa();
+    }
+
+    /* Deja la lista vacía, con los arreglos de su capacidad inicial. */
+    private void inicializa() {
+        bytes = new byte[BYTES_INICIALES];
+        desplazamientos = new int[ENTRADAS_INICIALES];
+        tamanos = new int[ENTRADAS_INICIALES];
+        anteriores = new int[ENTRADAS_INICIALES];
+        siguientes = new int[ENTRADAS_INICIALES];
+        bytesUsados = bytesMuertos = entradasUsadas = longitud = 0;
+        libre = cabeza = rabo = iterador = NINGUNA;
+        if(primeras != null)
+          creaIndice();
+    }
+
+    /* Regresa los bytes en UTF-8 de la cadena, o null si la cadena es null. */
+    private static byte[] codifica(String cadena) {
+        return cadena == null ? null : cadena.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /* Regresa la cadena de la entrada recibida. */
+    private String cadena(int e) {
+        if(tamanos[e] == NULA)
+          return null;
+        return new String(bytes, desplazamientos[e], tamanos[e],
+                          StandardCharsets.UTF_8);
+    }
+
+    /* Nos dice si la entrada tiene los bytes recibidos; null para null. */
+    private boolean iguales(int e, byte[] b) {
+        if(b == null)
+          return tamanos[e] == NULA;
+        if(tamanos[e] != b.length)
+          return false;
+        int d = desplazamientos[e];
+        for(int i = 0; i < b.length; i++)
+          if(bytes[d + i] != b[i])
+            return false;
+        return true;
+    }
+
+    /* Regresa la primera entrada con los bytes recibidos, o NINGUNA. */
+    private int busca(byte[] b) {
+        if(primeras != null && b != null){
+          int n = nodo(b);
+          return n == NINGUNA ? NINGUNA : primeras[n];
+        }
+        for(int e = cabeza; e != NINGUNA; e = siguientes[e])
+          if(iguales(e, b))
+            return e;
+        return NINGUNA;
+    }
+
+    /*
+     * Hace espacio para n bytes más. Si los bytes muertos son la mitad o más
+     * del arreglo, lo compacta sin crecerlo; si no, duplica su capacidad.
+     */
+    private void aseguraBytes(int n) {
+        if(n <= bytes.length - bytesUsados)
+          return;
+        long necesarios = 2L * (bytesUsados - bytesMuertos + n);
+        if(necesarios / 2 > BYTES_MAXIMOS)
+          throw new OutOfMemoryError();
+        int capacidad = (int)Math.min(BYTES_MAXIMOS,
+                                      Math.max(bytes.length, necesarios));
+        byte[] nuevos = new byte[capacidad];
+        int usados = 0;
+        for(int e = cabeza; e != NINGUNA; e = siguientes[e]){
+          if(tamanos[e] <= 0)
+            continue;
+          System.arraycopy(bytes, desplazamientos[e], nuevos, usados, tamanos[e]);
+          desplazamientos[e] = usados;
+          usados += tamanos[e];
+        }
+        bytes = nuevos;
+        bytesUsados = usados;
+        bytesMuertos = 0;
+    }
+
+    /* Regresa una entrada nueva sin ligar, con una copia de los bytes. */
+    private int nuevaEntrada(byte[] fuente, int desplazamiento, int tamano) {
+        int e;
+        if(libre != NINGUNA){
+          e = libre;
+          libre = siguientes[e];
+        }else{
+          if(entradasUsadas == tamanos.length){
+            int capacidad = 2 * entradasUsadas;
+            desplazamientos = Arrays.copyOf(desplazamientos, capacidad);
+            tamanos = Arrays.copyOf(tamanos, capacidad);
+            anteriores = Arrays.copyOf(anteriores, capacidad);
+            siguientes = Arrays.copyOf(siguientes, capacidad);
+            if(numeros != null){
+              anterioresIguales = Arrays.copyOf(anterioresIguales, capacidad);
+              siguientesIguales = Arrays.copyOf(siguientesIguales, capacidad);
+              numeros = Arrays.copyOf(numeros, capacidad);
+            }
+          }
+          e = entradasUsadas++;
+        }
+        if(tamano > 0)
+          aseguraBytes(tamano);
+        tamanos[e] = tamano;
+        desplazamientos[e] = bytesUsados;
+        if(tamano > 0){
+          System.arraycopy(fuente, desplazamiento, bytes, bytesUsados, tamano);
+          bytesUsados += tamano;
+        }
+        return e;
+    }
+
+    /* Regresa una entrada nueva sin ligar para la cadena recibida. */
+    private int nuevaEntrada(String elemento) {
+        byte[] b = codifica(elemento);
+        return b == null ? nuevaEntrada(null, 0, NULA)
+                         : nuevaEntrada(b, 0, b.length);
+    }
+
+    /* Liga la entrada al final de la lista. */
+    private void ligaFinal(int e) {
+        if(numeros != null){
+          if(rabo == NINGUNA){
+            numeros[e] = 0;
+            numerosValidos = true;
+          }else if(numeros[rabo] == Integer.MAX_VALUE){
+            numerosValidos = false;
+          }else{
+            numeros[e] = numeros[rabo] + 1;
+          }
+          if(tamanos[e] != NULA)
+            agregaAlIndice(e, true);
+        }
+        anteriores[e] = rabo;
+        siguientes[e] = NINGUNA;
+        if(rabo == NINGUNA)
+          cabeza = e;
+        else
+          siguientes[rabo] = e;
+        rabo = e;
+        longitud++;
+        iterador = cabeza;
+    }
+
+    /* Liga la entrada al inicio de la lista. */
+    private void ligaInicio(int e) {
+        if(numeros != null){
+          if(cabeza == NINGUNA){
+            numeros[e] = 0;
+            numerosValidos = true;
+          }else if(numeros[cabeza] == Integer.MIN_VALUE){
+            numerosValidos = false;
+          }else{
+            numeros[e] = numeros[cabeza] - 1;
+          }
+          if(tamanos[e] != NULA)
+            agregaAlIndice(e, false);
+        }
+        anteriores[e] = NINGUNA;
+        siguientes[e] = cabeza;
+        if(cabeza == NINGUNA)
+          rabo = e;
+        else
+          anteriores[cabeza] = e;
+        cabeza = e;
+        longitud++;
+        iterador = cabeza;
+    }
+
+    /*
+     * Desliga la entrada de la lista y la deja libre para reutilizarse. Si el
+     * iterador apuntaba a ella, deja de ser válido.
+     */
+    private void desliga(int e) {
+        if(numeros != null){
+          if(e != cabeza && e != rabo)
+            numerosValidos = false;
+          if(tamanos[e] != NULA)
+            quitaDelIndice(e);
+        }
+        if(anteriores[e] == NINGUNA)
+          cabeza = siguientes[e];
+        else
+          siguientes[anteriores[e]] = siguientes[e];
+        if(siguientes[e] == NINGUNA)
+          rabo = anteriores[e];
+        else
+          anteriores[siguientes[e]] = anteriores[e];
+        if(tamanos[e] > 0)
+          bytesMuertos += tamanos[e];
+        if(iterador == e)
+          iterador = NINGUNA;
+        siguientes[e] = libre;
+        libre = e;
+        longitud--;
+    }
+
+    /* Crea un índice vacío para la lista. */
+    private void creaIndice() {
+        hijos = new int[ENTRADAS_INICIALES];
+        hermanos = new int[ENTRADAS_INICIALES];
+        etiquetas = new byte[ENTRADAS_INICIALES];
+        cuentas = new int[ENTRADAS_INICIALES];
+        primeras = new int[ENTRADAS_INICIALES];
+        ultimas = new int[ENTRADAS_INICIALES];
+        nodosUsados = 0;
+        nodoLibre = NINGUNA;
+        nuevoNodo((byte)0);
+        anterioresIguales = new int[tamanos.length];
+        siguientesIguales = new int[tamanos.length];
+        numeros = new int[tamanos.length];
+        numerosValidos = true;
+    }
+
+    /* Regresa un nodo nuevo sin ligar, sin hijos ni entradas. */
+    private int nuevoNodo(byte etiqueta) {
+        int n;
+        if(nodoLibre != NINGUNA){
+          n = nodoLibre;
+          nodoLibre = hermanos[n];
+        }else{
+          if(nodosUsados == hijos.length){
+            int capacidad = 2 * nodosUsados;
+            hijos = Arrays.copyOf(hijos, capacidad);
+            hermanos = Arrays.copyOf(hermanos, capacidad);
+            etiquetas = Arrays.copyOf(etiquetas, capacidad);
+            cuentas = Arrays.copyOf(cuentas, capacidad);
+            primeras = Arrays.copyOf(primeras, capacidad);
+            ultimas = Arrays.copyOf(ultimas, capacidad);
+          }
+          n = nodosUsados++;
+        }
+        etiquetas[n] = etiqueta;
+        hijos[n] = hermanos[n] = primeras[n] = ultimas[n] = NINGUNA;
+        cuentas[n] = 0;
+        return n;
+    }
+
+    /* Regresa el hijo del nodo con la etiqueta recibida, o NINGUNA. */
+    private int hijo(int n, byte etiqueta) {
+        int h = hijos[n];
+        while(h != NINGUNA && etiquetas[h] != etiqueta)
+          h = hermanos[h];
+        return h;
+    }
+
+    /* Regresa el nodo de la cadena con los bytes recibidos, o NINGUNA. */
+    private int nodo(byte[] b) {
+        int n = 0;
+        for(int i = 0; i < b.length && n != NINGUNA; i++)
+          n = hijo(n, b[i]);
+        return n;
+    }
+
+    /*
+     * Agrega la entrada al índice, creando los nodos que falten, como la
+     * última o la primera entrada con su cadena.
+     */
+    private void agregaAlIndice(int e, boolean alFinal) {
+        int n = 0;
+        cuentas[0]++;
+        int d = desplazamientos[e];
+        for(int i = 0; i < tamanos[e]; i++){
+          int h = hijo(n, bytes[d + i]);
+          if(h == NINGUNA){
+            h = nuevoNodo(bytes[d + i]);
+            hermanos[h] = hijos[n];
+            hijos[n] = h;
+          }
+          n = h;
+          cuentas[n]++;
+        }
+        if(primeras[n] == NINGUNA){
+          primeras[n] = ultimas[n] = e;
+          anterioresIguales[e] = siguientesIguales[e] = NINGUNA;
+        }else if(alFinal){
+          anterioresIguales[e] = ultimas[n];
+          siguientesIguales[e] = NINGUNA;
+          siguientesIguales[ultimas[n]] = e;
+          ultimas[n] = e;
+        }else{
+          anterioresIguales[e] = NINGUNA;
+          siguientesIguales[e] = primeras[n];
+          anterioresIguales[primeras[n]] = e;
+          primeras[n] = e;
+        }
+    }
+
+    /*
+     * Quita la entrada del índice. Los nodos que se quedan sin elementos con
+     * su prefijo se desligan y se liberan.
+     */
+    private void quitaDelIndice(int e) {
+        int n = 0;
+        cuentas[0]--;
+        int d = desplazamientos[e];
+        for(int i = 0; i < tamanos[e]; i++){
+          int previo = NINGUNA;
+          int h = hijos[n];
+          while(etiquetas[h] != bytes[d + i]){
+            previo = h;
+            h = hermanos[h];
+          }
+          if(--cuentas[h] == 0){
+            /* La entrada era la única con este prefijo. */
+            if(previo == NINGUNA)
+              hijos[n] = hermanos[h];
+            else
+              hermanos[previo] = hermanos[h];
+            liberaSubarbol(h);
+            return;
+          }
+          n = h;
+        }
+        if(anterioresIguales[e] == NINGUNA)
+          primeras[n] = siguientesIguales[e];
+        else
+          siguientesIguales[anterioresIguales[e]] = siguientesIguales[e];
+        if(siguientesIguales[e] == NINGUNA)
+          ultimas[n] = anterioresIguales[e];
+        else
+          anterioresIguales[siguientesIguales[e]] = anterioresIguales[e];
+    }
+
+    /*
+     * Libera el nodo y sus descendientes. Los nodos pendientes se encadenan
+     * por sus hermanos, así que no hace falta una pila.
+     */
+    private void liberaSubarbol(int n) {
+        hermanos[n] = NINGUNA;
+        int pendientes = n;
+        while(pendientes != NINGUNA){
+          int x = pendientes;
+          pendientes = hermanos[x];
+          int h = hijos[x];
+          if(h != NINGUNA){
+            int u = h;
+            while(hermanos[u] != NINGUNA)
+              u = hermanos[u];
+            hermanos[u] = pendientes;
+            pendientes = h;
+          }
+          hermanos[x] = nodoLibre;
+          nodoLibre = x;
+        }
+    }
+
+    /* Numera las entradas consecutivamente de la cabeza al rabo. */
+    private void renumera() {
+        int i = 0;
+        for(int e = cabeza; e != NINGUNA; e = siguientes[e])
+          numeros[e] = i++;
+        numerosValidos = true;
+    }
+
     /**
      * Regresa la longitud de la lista.
      * @return la longitud de la lista, el número de elementos que contiene.
      */
     public int getLongitud() {
-        longitud = getLongitudR(cabeza, 0);
         return longitud;
     }
 
-    // Auxiliar getLongitud
-    private int getLongitudR(Nodo n, int i){
-      if(n == null){
-        return i;
-      }else{
-        return getLongitudR(n.siguiente, ++i);
-      }
-    }
-
     /**
      * Nos dice si la lista es vacía.
      * @return <code>true</code> si la lista es vacía, <code>false</code> en
      *         otro caso.
      */
     public boolean esVacia() {
-        return cabeza == null;
+        return longitud == 0;
     }
 
     /**
@@ -63,17 +478,7 @@ public class ListaCadena {
      * @param elemento el elemento a agregar.
      */
     public void agregaFinal(String elemento) {
-        if(cabeza == null){
-          cabeza = new Nodo(elemento);
-          rabo = cabeza;
-          iterador = cabeza;
-
-        }else{
-          rabo.siguiente = new Nodo(elemento);
-          rabo.siguiente.anterior = rabo;
-          rabo = rabo.siguiente;
-          iterador = cabeza;
-        }
+        ligaFinal(nuevaEntrada(elemento));
     }
 
     /**
@@ -83,17 +488,7 @@ public class ListaCadena {
      * @param elemento el elemento a agregar.
      */
     public void agregaInicio(String elemento) {
-        if(cabeza == null){
-          cabeza = new Nodo(elemento);
-          rabo = cabeza;
-          iterador = cabeza;
-
-        }else{
-          cabeza.anterior = new Nodo(elemento);
-          cabeza.anterior.siguiente = cabeza;
-          cabeza = cabeza.anterior;
-          iterador = cabeza;
-        }
+        ligaInicio(nuevaEntrada(elemento));
     }
 
     /**
@@ -103,74 +498,39 @@ public class ListaCadena {
      * @param elemento el elemento a eliminar.
      */
     public void elimina(String elemento) {
-      eliminaR(cabeza, elemento);
-    }
-
-    // Auxiliar elimina
-    private void eliminaR(Nodo n, String elemento){
-      if(n == null){
-        return;
-      }else if(n.elemento.equals(elemento)){
-        if(n.anterior == null){
-          eliminaPrimero();
-          iterador = cabeza;
-          return;
-        }else if(n.siguiente == null){
-          eliminaUltimo();
-          iterador = cabeza;
+        int e = busca(codifica(elemento));
+        if(e == NINGUNA)
           return;
-        }else{
-          n.anterior.siguiente = n.siguiente;
-          n.siguiente.anterior = n.anterior;
-          iterador = cabeza;
-          return;
-        }
-      }else{
-        eliminaR(n.siguiente, elemento);
-        return;
-      }
+        desliga(e);
+        iterador = cabeza;
     }
 
     /**
-     * Elimina el primer elemento de la lista y lo regresa.
+     * Elimina el primer elemento de la lista y lo regresa. Si el iterador
+     * apuntaba a él, deja de ser válido.
      * @return el primer elemento de la lista antes de eliminarlo, o
      *         <code>null</code> si la lista está vacía.
      */
     public String eliminaPrimero() {
-        if(cabeza == null){
+        if(cabeza == NINGUNA)
           return null;
-        }else{
-          String elementoEliminado = cabeza.elemento;
-          if(cabeza.siguiente == null){
-            cabeza = null;
-            return elementoEliminado;
-          }else{
-            cabeza = cabeza.siguiente;
-            cabeza.anterior = null;
-            return elementoEliminado;
-          }
-        }
+        String elementoEliminado = cadena(cabeza);
+        desliga(cabeza);
+        return elementoEliminado;
     }
 
     /**
-     * Elimina el último elemento de la lista y lo regresa.
+     * Elimina el último elemento de la lista y lo regresa. Si el iterador
+     * apuntaba a él, deja de ser válido.
      * @return el último elemento de la lista antes de eliminarlo, o
      *         <code>null</code> si la lista está vacía.
      */
     public String eliminaUltimo() {
-        if(cabeza == null){
+        if(rabo == NINGUNA)
           return null;
-        }else{
-          String elementoEliminado = rabo.elemento;
-          if(cabeza.siguiente == null){
-            cabeza = null;
-            return elementoEliminado;
-          }else{
-            rabo = rabo.anterior;
-            rabo.siguiente = null;
-            return elementoEliminado;
-          }
-        }
+        String elementoEliminado = cadena(rabo);
+        desliga(rabo);
+        return elementoEliminado;
     }
 
     /**
@@ -180,18 +540,7 @@ public class ListaCadena {
      *         <tt>false</tt> en otro caso.
      */
     public boolean contiene(String elemento) {
-      return contieneR(cabeza, elemento);
-    }
-
-    // Auxiliar contiene
-    private boolean contieneR(Nodo n, String elemento){
-      if(n == null){
-        return false;
-      }else if(n.elemento.equals(elemento)){
-        return true;
-      }else{
-        return contieneR(n.siguiente, elemento);
-      }
+        return busca(codifica(elemento)) != NINGUNA;
     }
 
     /**
@@ -200,17 +549,9 @@ public class ListaCadena {
      */
     public ListaCadena reversa() {
         ListaCadena l = new ListaCadena();
-        return reversaR(cabeza, l);
-    }
-
-    // Auxiliar reversa
-    private ListaCadena reversaR(Nodo n, ListaCadena l){
-      if(n == null){
+        for(int e = cabeza; e != NINGUNA; e = siguientes[e])
+          l.ligaInicio(l.nuevaEntrada(bytes, desplazamientos[e], tamanos[e]));
         return l;
-      }else{
-        l.agregaInicio(n.elemento);
-        return reversaR(n.siguiente, l);
-      }
     }
 
     /**
@@ -220,17 +561,9 @@ public class ListaCadena {
      */
     public ListaCadena copia() {
         ListaCadena l = new ListaCadena();
-        return copiaR(cabeza, l);
-    }
-
-    // Auxiliar copia
-    private ListaCadena copiaR(Nodo n, ListaCadena l){
-      if(n == null){
+        for(int e = cabeza; e != NINGUNA; e = siguientes[e])
+          l.ligaFinal(l.nuevaEntrada(bytes, desplazamientos[e], tamanos[e]));
         return l;
-      }else{
-        l.agregaFinal(n.elemento);
-        return copiaR(n.siguiente, l);
-      }
     }
 
     /**
@@ -238,7 +571,7 @@ public class ListaCadena {
      * eliminar todos los elementos de la lista.
      */
     public void limpia() {
-        cabeza = null;
+        inicializa();
     }
 
     /**
@@ -247,10 +580,10 @@ public class ListaCadena {
      *         es vacía.
      */
     public String getPrimero() {
-        if(cabeza == null){
+        if(cabeza == NINGUNA){
           return null;
         }
-        return cabeza.elemento;
+        return cadena(cabeza);
     }
 
     /**
@@ -259,10 +592,10 @@ public class ListaCadena {
      *         es vacía.
      */
     public String getUltimo() {
-        if(cabeza == null){
+        if(rabo == NINGUNA){
           return null;
         }
-        return rabo.elemento;
+        return cadena(rabo);
     }
 
     /**
@@ -275,20 +608,19 @@ public class ListaCadena {
      *         <tt>null</tt> en otro caso.
      */
     public String get(int i) {
-      return getR(i, 0, cabeza);
-    }
-
-    // Auxiliar get
-    private String getR(int indice, int i, Nodo n){
-      if(indice < 0 || indice >= getLongitud()){
-        return null;
-      }else if(n == null){
-        return null;
-      }else if(indice == i){
-        return n.elemento;
-      }else{
-        return getR(indice, ++i, n.siguiente);
-      }
+        if(i < 0 || i >= longitud)
+          return null;
+        int e;
+        if(i < longitud / 2){
+          e = cabeza;
+          for(int j = 0; j < i; j++)
+            e = siguientes[e];
+        }else{
+          e = rabo;
+          for(int j = longitud - 1; j > i; j--)
+            e = anteriores[e];
+        }
+        return cadena(e);
     }
 
     /**
@@ -298,18 +630,116 @@ public class ListaCadena {
      *         no está contenido en la lista.
      */
     public int indiceDe(String elemento) {
-        return indiceDeR(cabeza, elemento, 0);
+        byte[] b = codifica(elemento);
+        if(primeras != null && b != null){
+          int e = busca(b);
+          if(e == NINGUNA)
+            return -1;
+          if(!numerosValidos)
+            renumera();
+          return numeros[e] - numeros[cabeza];
+        }
+        int indice = 0;
+        for(int e = cabeza; e != NINGUNA; e = siguientes[e], indice++)
+          if(iguales(e, b))
+            return indice;
+        return -1;
     }
 
-    // Auxiliar indice
-    private int indiceDeR(Nodo n, String elemento, int indice){
-      if(n == null){
-        return -1;
-      }else if(n.elemento.equals(elemento)){
-        return indice;
-      }else{
-        return indiceDeR(n.siguiente, elemento, ++indice);
-      }
+    /**
+     * Activa o desactiva el índice de la lista. Con el índice activo, {@link
+     * #contiene}, {@link #elimina} y {@link #conPrefijo} cuestan un tiempo
+     * proporcional al tamaño de la cadena buscada, y {@link #indiceDe}
+     * también, salvo la primera búsqueda después de eliminar un elemento que
+     * no estaba en los extremos de la lista, que recorre la lista una vez
+     * para renumerarla. Activar el índice cuesta un tiempo proporcional al
+     * número total de bytes en la lista; desactivarlo libera su memoria.
+     * @param indexa si la lista debe mantener el índice.
+     */
+    public void indexa(boolean indexa) {
+        if(!indexa){
+          hijos = hermanos = cuentas = primeras = ultimas = null;
+          etiquetas = null;
+          anterioresIguales = siguientesIguales = numeros = null;
+          return;
+        }
+        if(primeras != null)
+          return;
+        creaIndice();
+        int i = 0;
+        for(int e = cabeza; e != NINGUNA; e = siguientes[e]){
+          numeros[e] = i++;
+          if(tamanos[e] != NULA)
+            agregaAlIndice(e, true);
+        }
+    }
+
+    /**
+     * Nos dice si la lista mantiene un índice.
+     * @return <tt>true</tt> si la lista mantiene un índice; <tt>false</tt> en
+     *         otro caso.
+     */
+    public boolean estaIndexada() {
+        return primeras != null;
+    }
+
+    /**
+     * Regresa una lista con los elementos de la lista que empiezan con el
+     * prefijo recibido, en el mismo orden. El iterador no se mueve.
+     * @param prefijo el prefijo de los elementos que queremos.
+     * @return una lista nueva con los elementos que empiezan con
+     *         <tt>prefijo</tt>; si <tt>prefijo</tt> es <tt>null</tt>, la lista
+     *         es vacía.
+     */
+    public ListaCadena conPrefijo(String prefijo) {
+        ListaCadena l = new ListaCadena();
+        byte[] b = codifica(prefijo);
+        if(b == null)
+          return l;
+        if(primeras == null){
+          for(int e = cabeza; e != NINGUNA; e = siguientes[e])
+            if(empiezaCon(e, b))
+              l.ligaFinal(l.nuevaEntrada(bytes, desplazamientos[e], tamanos[e]));
+          return l;
+        }
+        int n = nodo(b);
+        if(n == NINGUNA)
+          return l;
+        if(!numerosValidos)
+          renumera();
+        /* Cada entrada con su número en la parte alta, para ordenarlas. */
+        long[] encontradas = new long[cuentas[n]];
+        int k = 0;
+        int[] pila = new int[16];
+        int tope = 0;
+        pila[tope++] = n;
+        while(tope > 0){
+          int x = pila[--tope];
+          for(int e = primeras[x]; e != NINGUNA; e = siguientesIguales[e])
+            encontradas[k++] = ((long)numeros[e] << 32) | e;
+          for(int h = hijos[x]; h != NINGUNA; h = hermanos[h]){
+            if(tope == pila.length)
+              pila = Arrays.copyOf(pila, 2 * tope);
+            pila[tope++] = h;
+          }
+        }
+        Arrays.sort(encontradas);
+        for(long c : encontradas){
+          int e = (int)c;
+          l.ligaFinal(l.nuevaEntrada(bytes, desplazamientos[e], tamanos[e]));
+        }
+        return l;
+    }
+
+    /* Nos dice si los bytes de la entrada empiezan con los recibidos. */
+    private boolean empiezaCon(int e, byte[] b) {
+        if(tamanos[e] < b.length)
+          return false;
+        int d = desplazamientos[e];
+        for(int i = 0; i < b.length; i++)
+          if(bytes[d + i] != b[i])
+            return false;
+        return true;
     }
 
     /**
@@ -317,25 +747,13 @@ public class ListaCadena {
      * @return una representación en cadena de la lista.
      */
     public String toString() {
-      String i = "[";
-      String f = "]";
-      String s = "";
-      return i + toStringR(s, cabeza) + f;
-    }
-
-    // Auxiliar toStringR
-    private String toStringR(String s, Nodo n){
-      if(n == null){
-        return s;
-      }else{
-        if(n == rabo){
-          s += n.elemento;
-          return toStringR(s, n.siguiente);
-        }else{
-          s += n.elemento + ", ";
-          return toStringR(s, n.siguiente);
+        StringBuilder sb = new StringBuilder("[");
+        for(int e = cabeza; e != NINGUNA; e = siguientes[e]){
+          sb.append(cadena(e));
+          if(e != rabo)
+            sb.append(", ");
         }
-      }
+        return sb.append("]").toString();
     }
 
     /**
@@ -353,17 +771,21 @@ public class ListaCadena {
     }
 
     /**
-     * Mueve el iterador al siguiente elemento.
+     * Mueve el iterador al siguiente elemento. Si el iterador es inválido,
+     * sigue siéndolo.
      */
     public void siguiente() {
-        iterador = iterador.siguiente;
+        if(iterador != NINGUNA)
+          iterador = siguientes[iterador];
     }
 
     /**
-     * Mueve el iterador al elemento anterior.
+     * Mueve el iterador al elemento anterior. Si el iterador es inválido,
+     * sigue siéndolo.
      */
     public void anterior() {
-        iterador = iterador.anterior;
+        if(iterador != NINGUNA)
+          iterador = anteriores[iterador];
     }
 
     /**
@@ -372,7 +794,9 @@ public class ListaCadena {
      *         iterador es inválido.
      */
     public String get() {
-        return iterador.elemento;
+        if(iterador == NINGUNA)
+          return null;
+        return cadena(iterador);
     }
 
     /**
@@ -381,10 +805,7 @@ public class ListaCadena {
      *         caso.
      */
     public boolean iteradorValido() {
-        if(iterador == null){
-          return false;
-        }
-        return true;
+        return iterador != NINGUNA;
     }
 
 }
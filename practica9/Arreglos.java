@@ -1,8 +1,22 @@
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+
 /**
  * Clase para ordenar y buscar en arreglos genéricos.
  */
 public class Arreglos {
 
+    /**
+     * Número de elementos por debajo del cual {@link
+     * #ordenaParalelo(Object[], Comparator)} ordena o mezcla un rango
+     * secuencialmente.
+     */
+    public static final int UMBRAL_PARALELO = 8192;
+
     /**
      * Ordena el arreglo recibido usando SelectionSort.
      * @param <T> el tipo del arreglo.
@@ -27,52 +41,552 @@ public class Arreglos {
       }
     }
 
+    /* Tamaño de los rangos que se ordenan con InsertionSort. */
+    private static final int UMBRAL_INSERCION = 16;
+    /* Tamaño a partir del cual el pivote es la mediana de nueve elementos. */
+    private static final int UMBRAL_MEDIANA_NUEVE = 128;
+
     /**
-     * Ordena el arreglo recibido usando QickSort.
+     * Ordena el arreglo recibido usando QickSort. El ordenamiento es un
+     * <em>introsort</em>: el pivote es la mediana de tres elementos (o de
+     * nueve, en rangos grandes), la partición separa los elementos menores,
+     * iguales y mayores que el pivote, los rangos pequeños se ordenan con
+     * InsertionSort, y si la recursión se hace demasiado profunda el rango se
+     * ordena con HeapSort. Tarda O(<em>n</em> log <em>n</em>) en el peor caso
+     * y usa O(log <em>n</em>) de pila. No es estable.
      * @param <T> el tipo del arreglo.
      * @param a un arreglo cuyos elementos son comparables.
      */
     public static <T extends Comparable<T>>
     void quickSort(T[] a) {
-      int ini = 0;
-      int fin = a.length - 1;
-      sort(a, ini, fin);
+      introSort(a, 0, a.length - 1, Comparator.naturalOrder());
+    }
+
+    /* Ordena el rango [ini, fin] del arreglo con introsort. */
+    private static <T>
+    void introSort(T[] a, int ini, int fin, Comparator<? super T> comparador) {
+      introSort(a, ini, fin, 2 * log2(fin - ini + 1), comparador);
+    }
+
+    /* Regresa el logaritmo base 2 de n, redondeado hacia abajo. */
+    private static int log2(int n) {
+      return n <= 1 ? 0 : 31 - Integer.numberOfLeadingZeros(n);
     }
 
     /*
-     * Metodo auxiliar que ordena un arreglo
+     * Ordena el rango [ini, fin] del arreglo. Se llama recursivamente sólo
+     * con el lado menor de la partición y sigue con el mayor en el ciclo, así
+     * que la pila nunca pasa de log n marcos.
      */
-    private static <T extends Comparable<T>>
-    void sort(T[] a, int ini, int fin) {
-      if(fin <= ini)
-        return;
-      int i = ini + 1;
-      int j = fin;
-      while(i < j) {
-        if(a[i].compareTo(a[ini]) > 0 && a[j].compareTo(a[ini]) <= 0)
-          intercambia(a, i++, j--);
-        else if(a[i].compareTo(a[ini]) <= 0)
-          i++;
-        else
+    private static <T>
+    void introSort(T[] a, int ini, int fin, int profundidad,
+                   Comparator<? super T> comparador) {
+      while(fin - ini + 1 > UMBRAL_INSERCION) {
+        if(profundidad-- == 0) {
+          heapSort(a, ini, fin, comparador);
+          return;
+        }
+        T pivote = a[pivote(a, ini, fin, comparador)];
+        /*
+         * Invariante: [ini, menores) < pivote, [menores, i) == pivote y
+         * (mayores, fin] > pivote; [i, mayores] falta por revisar.
+         */
+        int menores = ini;
+        int i = ini;
+        int mayores = fin;
+        while(i <= mayores) {
+          int c = comparador.compare(a[i], pivote);
+          if(c < 0)
+            intercambia(a, menores++, i++);
+          else if(c > 0)
+            intercambia(a, i, mayores--);
+          else
+            i++;
+        }
+        if(menores - ini < fin - mayores) {
+          introSort(a, ini, menores - 1, profundidad, comparador);
+          ini = mayores + 1;
+        }else{
+          introSort(a, mayores + 1, fin, profundidad, comparador);
+          fin = menores - 1;
+        }
+      }
+      insertionSort(a, ini, fin, comparador);
+    }
+
+    /*
+     * Regresa el índice del pivote para el rango [ini, fin]: la mediana del
+     * primero, el central y el último, o en rangos grandes la mediana de las
+     * medianas de tres ternas repartidas en el rango.
+     */
+    private static <T>
+    int pivote(T[] a, int ini, int fin, Comparator<? super T> comparador) {
+      int centro = (ini + fin) >>> 1;
+      if(fin - ini + 1 < UMBRAL_MEDIANA_NUEVE)
+        return mediana(a, ini, centro, fin, comparador);
+      int d = (fin - ini + 1) / 8;
+      return mediana(a,
+                     mediana(a, ini, ini + d, ini + 2 * d, comparador),
+                     mediana(a, centro - d, centro, centro + d, comparador),
+                     mediana(a, fin - 2 * d, fin - d, fin, comparador),
+                     comparador);
+    }
+
+    /* Regresa el índice del elemento mediano entre los de i, j y k. */
+    private static <T>
+    int mediana(T[] a, int i, int j, int k, Comparator<? super T> comparador) {
+      if(comparador.compare(a[i], a[j]) < 0) {
+        if(comparador.compare(a[j], a[k]) < 0)
+          return j;
+        return comparador.compare(a[i], a[k]) < 0 ? k : i;
+      }
+      if(comparador.compare(a[i], a[k]) < 0)
+        return i;
+      return comparador.compare(a[j], a[k]) < 0 ? k : j;
+    }
+
+    /* Ordena el rango [ini, fin] del arreglo con InsertionSort. */
+    private static <T>
+    void insertionSort(T[] a, int ini, int fin, Comparator<? super T> comparador) {
+      for(int i = ini + 1; i <= fin; i++) {
+        T elemento = a[i];
+        int j = i - 1;
+        while(j >= ini && comparador.compare(a[j], elemento) > 0) {
+          a[j + 1] = a[j];
           j--;
+        }
+        a[j + 1] = elemento;
+      }
+    }
+
+    /* Ordena el rango [ini, fin] del arreglo con HeapSort. */
+    private static <T>
+    void heapSort(T[] a, int ini, int fin, Comparator<? super T> comparador) {
+      int n = fin - ini + 1;
+      for(int i = n / 2 - 1; i >= 0; i--)
+        hunde(a, ini, i, n, comparador);
+      for(int m = n - 1; m > 0; m--) {
+        intercambia(a, ini, ini + m);
+        hunde(a, ini, 0, m, comparador);
       }
-      if(a[i].compareTo(a[ini]) > 0)
-        i--;
-      intercambia(a, ini, i);
-      sort(a, ini, i - 1);
-      sort(a, i + 1, fin);
+    }
+
+    /*
+     * Hunde el elemento i del montículo máximo de n elementos que empieza en
+     * el índice ini del arreglo.
+     */
+    private static <T>
+    void hunde(T[] a, int ini, int i, int n, Comparator<? super T> comparador) {
+      T elemento = a[ini + i];
+      int hijo;
+      while((hijo = 2 * i + 1) < n) {
+        if(hijo + 1 < n &&
+           comparador.compare(a[ini + hijo + 1], a[ini + hijo]) > 0)
+          hijo++;
+        if(comparador.compare(a[ini + hijo], elemento) <= 0)
+          break;
+        a[ini + i] = a[ini + hijo];
+        i = hijo;
+      }
+      a[ini + i] = elemento;
     }
 
     /*
      * Metodo auxiliar que intercambia dos elementos de un array
      */
-    private static <T extends Comparable<T>>
+    private static <T>
     void intercambia(T[] a, int i, int j) {
       T auxiliar = a[i];
       a[i] = a[j];
       a[j] = auxiliar;
     }
 
+    /**
+     * Ordena el arreglo recibido en paralelo usando el orden natural de sus
+     * elementos. Ver {@link #ordenaParalelo(Object[], Comparator, ForkJoinPool,
+     * int)}.
+     * @param <T> el tipo del arreglo.
+     * @param a un arreglo cuyos elementos son comparables.
+     */
+    public static <T extends Comparable<T>>
+    void ordenaParalelo(T[] a) {
+      ordenaParalelo(a, Comparator.naturalOrder());
+    }
+
+    /**
+     * Ordena el arreglo recibido en paralelo usando el comparador recibido, en
+     * el {@link ForkJoinPool#commonPool} y con el umbral {@link
+     * #UMBRAL_PARALELO}. Ver {@link #ordenaParalelo(Object[], Comparator,
+     * ForkJoinPool, int)}.
+     * @param <T> el tipo del arreglo.
+     * @param a el arreglo a ordenar.
+     * @param comparador el comparador para ordenar los elementos.
+     */
+    public static <T>
+    void ordenaParalelo(T[] a, Comparator<? super T> comparador) {
+      ordenaParalelo(a, comparador, ForkJoinPool.commonPool(), UMBRAL_PARALELO);
+    }
+
+    /**
+     * Ordena el arreglo recibido en paralelo usando el comparador recibido.
+     * El ordenamiento es un MergeSort: el arreglo se parte a la mitad
+     * recursivamente, las mitades se ordenan en tareas distintas, y cada
+     * mezcla grande también se reparte entre tareas, partiendo una corrida a
+     * la mitad y buscando con búsqueda binaria dónde cae su elemento central
+     * en la otra. Los rangos de a lo más <tt>umbral</tt> elementos se ordenan
+     * y se mezclan secuencialmente. Usa un arreglo auxiliar del tamaño del
+     * arreglo y es estable, así que si el comparador es consistente con
+     * <tt>equals</tt> el resultado es idéntico al de {@link #quickSort}.
+     * @param <T> el tipo del arreglo.
+     * @param a el arreglo a ordenar.
+     * @param comparador el comparador para ordenar los elementos.
+     * @param alberca la alberca de hilos donde se ordenará el arreglo.
+     * @param umbral el número de elementos por debajo del cual un rango se
+     *        ordena o se mezcla secuencialmente.
+     * @throws IllegalArgumentException si <tt>umbral</tt> es menor que uno.
+     */
+    public static <T>
+    void ordenaParalelo(T[] a, Comparator<? super T> comparador,
+                        ForkJoinPool alberca, int umbral) {
+      if(umbral < 1)
+        throw new IllegalArgumentException();
+      if(a.length < 2)
+        return;
+      T[] auxiliar = a.clone();
+      alberca.invoke(new TareaOrdena<>(a, auxiliar, 0, a.length,
+                                       comparador, umbral));
+    }
+
+    /*
+     * Ordena el rango [ini, fin) del arreglo con MergeSort, usando el mismo
+     * rango del auxiliar para las mezclas.
+     */
+    private static <T>
+    void mergeSort(T[] a, T[] auxiliar, int ini, int fin,
+                   Comparator<? super T> comparador) {
+      if(fin - ini <= UMBRAL_INSERCION) {
+        insertionSort(a, ini, fin - 1, comparador);
+        return;
+      }
+      int centro = (ini + fin) >>> 1;
+      mergeSort(a, auxiliar, ini, centro, comparador);
+      mergeSort(a, auxiliar, centro, fin, comparador);
+      if(comparador.compare(a[centro - 1], a[centro]) <= 0)
+        return;
+      System.arraycopy(a, ini, auxiliar, ini, fin - ini);
+      mezcla(auxiliar, ini, centro, centro, fin, a, ini, comparador);
+    }
+
+    /*
+     * Mezcla los rangos ordenados [i, finI) y [j, finJ) de la fuente en el
+     * destino a partir del índice k. En empates gana el primer rango.
+     */
+    private static <T>
+    void mezcla(T[] fuente, int i, int finI, int j, int finJ,
+                T[] destino, int k, Comparator<? super T> comparador) {
+      while(i < finI && j < finJ) {
+        if(comparador.compare(fuente[j], fuente[i]) < 0)
+          destino[k++] = fuente[j++];
+        else
+          destino[k++] = fuente[i++];
+      }
+      System.arraycopy(fuente, i, destino, k, finI - i);
+      System.arraycopy(fuente, j, destino, k + finI - i, finJ - j);
+    }
+
+    /*
+     * Regresa el primer índice en [ini, fin) del arreglo ordenado cuyo
+     * elemento es mayor que e, o mayor o igual si no se incluyen los iguales.
+     */
+    private static <T>
+    int limite(T[] a, int ini, int fin, T e, boolean incluyeIguales,
+               Comparator<? super T> comparador) {
+      while(ini < fin) {
+        int centro = (ini + fin) >>> 1;
+        int c = comparador.compare(a[centro], e);
+        if(c < 0 || (c == 0 && incluyeIguales))
+          ini = centro + 1;
+        else
+          fin = centro;
+      }
+      return ini;
+    }
+
+    /* Tarea que ordena el rango [ini, fin) del arreglo. */
+    private static class TareaOrdena<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        public T[] a;
+        public T[] auxiliar;
+        public int ini;
+        public int fin;
+        public Comparator<? super T> comparador;
+        public int umbral;
+
+        public TareaOrdena(T[] a, T[] auxiliar, int ini, int fin,
+                           Comparator<? super T> comparador, int umbral) {
+          this.a = a;
+          this.auxiliar = auxiliar;
+          this.ini = ini;
+          this.fin = fin;
+          this.comparador = comparador;
+          this.umbral = umbral;
+        }
+
+        @Override protected void compute() {
+          if(fin - ini <= umbral) {
+            mergeSort(a, auxiliar, ini, fin, comparador);
+            return;
+          }
+          int centro = (ini + fin) >>> 1;
+          invokeAll(new TareaOrdena<>(a, auxiliar, ini, centro,
+                                      comparador, umbral),
+                    new TareaOrdena<>(a, auxiliar, centro, fin,
+                                      comparador, umbral));
+          if(comparador.compare(a[centro - 1], a[centro]) <= 0)
+            return;
+          System.arraycopy(a, ini, auxiliar, ini, fin - ini);
+          new TareaMezcla<>(auxiliar, ini, centro, centro, fin, a, ini,
+                            comparador, umbral).compute();
+        }
+    }
+
+    /*
+     * Tarea que mezcla los rangos ordenados [i, finI) y [j, finJ) de la fuente
+     * en el destino a partir del índice k.
+     */
+    private static class TareaMezcla<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        public T[] fuente;
+        public int i;
+        public int finI;
+        public int j;
+        public int finJ;
+        public T[] destino;
+        public int k;
+        public Comparator<? super T> comparador;
+        public int umbral;
+
+        public TareaMezcla(T[] fuente, int i, int finI, int j, int finJ,
+                           T[] destino, int k,
+                           Comparator<? super T> comparador, int umbral) {
+          this.fuente = fuente;
+          this.i = i;
+          this.finI = finI;
+          this.j = j;
+          this.finJ = finJ;
+          this.destino = destino;
+          this.k = k;
+          this.comparador = comparador;
+          this.umbral = umbral;
+        }
+
+        @Override protected void compute() {
+          if((finI - i) + (finJ - j) <= umbral) {
+            mezcla(fuente, i, finI, j, finJ, destino, k, comparador);
+            return;
+          }
+          /*
+           * Partimos la corrida más larga en su elemento central y la otra
+           * donde éste caería, de forma que los iguales del primer rango
+           * queden antes que los del segundo.
+           */
+          int mi, mj;
+          if(finI - i >= finJ - j) {
+            mi = (i + finI) >>> 1;
+            mj = limite(fuente, j, finJ, fuente[mi], false, comparador);
+            destino[k + (mi - i) + (mj - j)] = fuente[mi];
+            invokeAll(new TareaMezcla<>(fuente, i, mi, j, mj, destino, k,
+                                        comparador, umbral),
+                      new TareaMezcla<>(fuente, mi + 1, finI, mj, finJ, destino,
+                                        k + (mi - i) + (mj - j) + 1,
+                                        comparador, umbral));
+          }else{
+            mj = (j + finJ) >>> 1;
+            mi = limite(fuente, i, finI, fuente[mj], true, comparador);
+            destino[k + (mi - i) + (mj - j)] = fuente[mj];
+            invokeAll(new TareaMezcla<>(fuente, i, mi, j, mj, destino, k,
+                                        comparador, umbral),
+                      new TareaMezcla<>(fuente, mi, finI, mj + 1, finJ, destino,
+                                        k + (mi - i) + (mj - j) + 1,
+                                        comparador, umbral));
+          }
+        }
+    }
+
+    /* Un elemento del arreglo con su clave, para ordenaPorClave. */
+    private static class Par<T, K> {
+        public T elemento;
+        public K clave;
+
+        public Par(T elemento, K clave) {
+          this.elemento = elemento;
+          this.clave = clave;
+        }
+    }
+
+    /**
+     * Ordena el arreglo recibido por la clave que la función recibida extrae
+     * de cada elemento. La función se llama exactamente una vez por elemento,
+     * y el ordenamiento compara las claves ya extraídas, así que conviene
+     * cuando obtener la clave es caro, como leer una propiedad de JavaFX de
+     * un {@link Estudiante}. El ordenamiento es estable.
+     * @param <T> el tipo del arreglo.
+     * @param <K> el tipo de las claves.
+     * @param a el arreglo a ordenar.
+     * @param clave la función que extrae la clave de cada elemento.
+     */
+    public static <T, K extends Comparable<? super K>>
+    void ordenaPorClave(T[] a, Function<? super T, ? extends K> clave) {
+      @SuppressWarnings("unchecked")
+      Par<T, K>[] pares = (Par<T, K>[])new Par<?, ?>[a.length];
+      for(int i = 0; i < a.length; i++)
+        pares[i] = new Par<>(a[i], clave.apply(a[i]));
+      mergeSort(pares, pares.clone(), 0, pares.length,
+                (p, q) -> p.clave.compareTo(q.clave));
+      for(int i = 0; i < a.length; i++)
+        a[i] = pares[i].elemento;
+    }
+
+    /**
+     * Ordena el arreglo recibido por la clave entera que la función recibida
+     * extrae de cada elemento. Las claves se extraen una sola vez a un arreglo
+     * de <code>int</code>, se ordenan los índices de los elementos según sus
+     * claves, y al final se acomodan los elementos. El ordenamiento es
+     * estable.
+     * @param <T> el tipo del arreglo.
+     * @param a el arreglo a ordenar.
+     * @param clave la función que extrae la clave de cada elemento.
+     */
+    public static <T>
+    void ordenaPorClaveEntera(T[] a, ToIntFunction<? super T> clave) {
+      int[] claves = new int[a.length];
+      for(int i = 0; i < a.length; i++)
+        claves[i] = clave.applyAsInt(a[i]);
+      permuta(a, ordenaIndices(claves));
+    }
+
+    /**
+     * Ordena el arreglo recibido por la clave doble que la función recibida
+     * extrae de cada elemento. Las claves se comparan como en {@link
+     * Double#compare}: se extraen a un arreglo de <code>long</code> con los
+     * bits de cada doble acomodados para quedar en ese orden. Ver {@link
+     * #ordenaPorClaveEntera}.
+     * @param <T> el tipo del arreglo.
+     * @param a el arreglo a ordenar.
+     * @param clave la función que extrae la clave de cada elemento.
+     */
+    public static <T>
+    void ordenaPorClaveDoble(T[] a, ToDoubleFunction<? super T> clave) {
+      long[] claves = new long[a.length];
+      for(int i = 0; i < a.length; i++){
+        /* Bits que como long quedan en el orden de Double.compare. */
+        long bits = Double.doubleToLongBits(clave.applyAsDouble(a[i]));
+        claves[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+      }
+      permuta(a, ordenaIndices(claves));
+    }
+
+    /*
+     * Regresa los índices del arreglo de claves ordenados de forma estable
+     * según sus claves.
+     */
+    private static int[] ordenaIndices(int[] claves) {
+      int[] indices = new int[claves.length];
+      for(int i = 0; i < indices.length; i++)
+        indices[i] = i;
+      ordenaIndices(claves, indices, new int[indices.length], 0, indices.length);
+      return indices;
+    }
+
+    /* Ordena el rango [ini, fin) de los índices con MergeSort. */
+    private static void ordenaIndices(int[] claves, int[] indices,
+                                      int[] auxiliar, int ini, int fin) {
+      if(fin - ini <= UMBRAL_INSERCION) {
+        for(int i = ini + 1; i < fin; i++) {
+          int indice = indices[i];
+          int j = i - 1;
+          while(j >= ini && claves[indices[j]] > claves[indice]) {
+            indices[j + 1] = indices[j];
+            j--;
+          }
+          indices[j + 1] = indice;
+        }
+        return;
+      }
+      int centro = (ini + fin) >>> 1;
+      ordenaIndices(claves, indices, auxiliar, ini, centro);
+      ordenaIndices(claves, indices, auxiliar, centro, fin);
+      if(claves[indices[centro - 1]] <= claves[indices[centro]])
+        return;
+      System.arraycopy(indices, ini, auxiliar, ini, fin - ini);
+      int i = ini;
+      int j = centro;
+      int k = ini;
+      while(i < centro && j < fin) {
+        if(claves[auxiliar[j]] < claves[auxiliar[i]])
+          indices[k++] = auxiliar[j++];
+        else
+          indices[k++] = auxiliar[i++];
+      }
+      System.arraycopy(auxiliar, i, indices, k, centro - i);
+      System.arraycopy(auxiliar, j, indices, k + centro - i, fin - j);
+    }
+
+    /*
+     * Regresa los índices del arreglo de claves ordenados de forma estable
+     * según sus claves.
+     */
+    private static int[] ordenaIndices(long[] claves) {
+      int[] indices = new int[claves.length];
+      for(int i = 0; i < indices.length; i++)
+        indices[i] = i;
+      ordenaIndices(claves, indices, new int[indices.length], 0, indices.length);
+      return indices;
+    }
+
+    /* Ordena el rango [ini, fin) de los índices con MergeSort. */
+    private static void ordenaIndices(long[] claves, int[] indices,
+                                      int[] auxiliar, int ini, int fin) {
+      if(fin - ini <= UMBRAL_INSERCION) {
+        for(int i = ini + 1; i < fin; i++) {
+          int indice = indices[i];
+          int j = i - 1;
+          while(j >= ini && claves[indices[j]] > claves[indice]) {
+            indices[j + 1] = indices[j];
+            j--;
+          }
+          indices[j + 1] = indice;
+        }
+        return;
+      }
+      int centro = (ini + fin) >>> 1;
+      ordenaIndices(claves, indices, auxiliar, ini, centro);
+      ordenaIndices(claves, indices, auxiliar, centro, fin);
+      if(claves[indices[centro - 1]] <= claves[indices[centro]])
+        return;
+      System.arraycopy(indices, ini, auxiliar, ini, fin - ini);
+      int i = ini;
+      int j = centro;
+      int k = ini;
+      while(i < centro && j < fin) {
+        if(claves[auxiliar[j]] < claves[auxiliar[i]])
+          indices[k++] = auxiliar[j++];
+        else
+          indices[k++] = auxiliar[i++];
+      }
+      System.arraycopy(auxiliar, i, indices, k, centro - i);
+      System.arraycopy(auxiliar, j, indices, k + centro - i, fin - j);
+    }
+
+    /* Acomoda el arreglo: su elemento i será el que estaba en indices[i]. */
+    private static <T> void permuta(T[] a, int[] indices) {
+      T[] copia = a.clone();
+      for(int i = 0; i < a.length; i++)
+        a[i] = copia[indices[i]];
+    }
+
     /**
      * Hace una búsqueda binaria del elemento en el arreglo. Regresa
      * el índice del elemento en el arreglo, o -1 si no se
@@ -99,4 +613,473 @@ public class Arreglos {
       }
       return -1;
     }
+
+    /**
+     * Ordena el arreglo de enteros recibido usando SelectionSort, sin
+     * envolver sus elementos en objetos.
+     * @param a el arreglo a ordenar.
+     */
+    public static void selectionSort(int[] a) {
+      for(int i = 0; i < a.length - 1; i++){
+        int minimo = i;
+        for(int j = i + 1; j < a.length; j++)
+          if(a[j] < a[minimo])
+            minimo = j;
+        if(minimo != i)
+          intercambia(a, i, minimo);
+      }
+    }
+
+    /**
+     * Ordena el arreglo de enteros recibido usando QuickSort, sin envolver
+     * sus elementos en objetos ni crear arreglos auxiliares. Es el mismo
+     * <em>introsort</em> que {@link #quickSort(Comparable[])}.
+     * @param a el arreglo a ordenar.
+     */
+    public static void quickSort(int[] a) {
+      introSort(a, 0, a.length - 1, 2 * log2(a.length));
+    }
+
+    /* Ordena el rango [ini, fin] del arreglo con introsort. */
+    private static void introSort(int[] a, int ini, int fin, int profundidad) {
+      while(fin - ini + 1 > UMBRAL_INSERCION) {
+        if(profundidad-- == 0) {
+          heapSort(a, ini, fin);
+          return;
+        }
+        int pivote = a[pivote(a, ini, fin)];
+        int menores = ini;
+        int i = ini;
+        int mayores = fin;
+        while(i <= mayores) {
+          if(a[i] < pivote)
+            intercambia(a, menores++, i++);
+          else if(a[i] > pivote)
+            intercambia(a, i, mayores--);
+          else
+            i++;
+        }
+        if(menores - ini < fin - mayores) {
+          introSort(a, ini, menores - 1, profundidad);
+          ini = mayores + 1;
+        }else{
+          introSort(a, mayores + 1, fin, profundidad);
+          fin = menores - 1;
+        }
+      }
+      insertionSort(a, ini, fin);
+    }
+
+    /* Regresa el índice del pivote para el rango [ini, fin]. */
+    private static int pivote(int[] a, int ini, int fin) {
+      int centro = (ini + fin) >>> 1;
+      if(fin - ini + 1 < UMBRAL_MEDIANA_NUEVE)
+        return mediana(a, ini, centro, fin);
+      int d = (fin - ini + 1) / 8;
+      return mediana(a,
+                     mediana(a, ini, ini + d, ini + 2 * d),
+                     mediana(a, centro - d, centro, centro + d),
+                     mediana(a, fin - 2 * d, fin - d, fin));
+    }
+
+    /* Regresa el índice del elemento mediano entre los de i, j y k. */
+    private static int mediana(int[] a, int i, int j, int k) {
+      if(a[i] < a[j]) {
+        if(a[j] < a[k])
+          return j;
+        return a[i] < a[k] ? k : i;
+      }
+      if(a[i] < a[k])
+        return i;
+      return a[j] < a[k] ? k : j;
+    }
+
+    /* Ordena el rango [ini, fin] del arreglo con InsertionSort. */
+    private static void insertionSort(int[] a, int ini, int fin) {
+      for(int i = ini + 1; i <= fin; i++) {
+        int elemento = a[i];
+        int j = i - 1;
+        while(j >= ini && a[j] > elemento) {
+          a[j + 1] = a[j];
+          j--;
+        }
+        a[j + 1] = elemento;
+      }
+    }
+
+    /* Ordena el rango [ini, fin] del arreglo con HeapSort. */
+    private static void heapSort(int[] a, int ini, int fin) {
+      int n = fin - ini + 1;
+      for(int i = n / 2 - 1; i >= 0; i--)
+        hunde(a, ini, i, n);
+      for(int m = n - 1; m > 0; m--) {
+        intercambia(a, ini, ini + m);
+        hunde(a, ini, 0, m);
+      }
+    }
+
+    /*
+     * Hunde el elemento i del montículo máximo de n elementos que empieza en
+     * el índice ini del arreglo.
+     */
+    private static void hunde(int[] a, int ini, int i, int n) {
+      int elemento = a[ini + i];
+      int hijo;
+      while((hijo = 2 * i + 1) < n) {
+        if(hijo + 1 < n && a[ini + hijo + 1] > a[ini + hijo])
+          hijo++;
+        if(a[ini + hijo] <= elemento)
+          break;
+        a[ini + i] = a[ini + hijo];
+        i = hijo;
+      }
+      a[ini + i] = elemento;
+    }
+
+    /* Intercambia dos elementos del arreglo. */
+    private static void intercambia(int[] a, int i, int j) {
+      int auxiliar = a[i];
+      a[i] = a[j];
+      a[j] = auxiliar;
+    }
+
+    /**
+     * Hace una búsqueda binaria del elemento en el arreglo ordenado de
+     * enteros. Revisa los mismos índices que {@link
+     * #busquedaBinaria(Comparable[], Comparable)}, pero compara los
+     * elementos directamente en lugar de llamar a <tt>compareTo</tt>.
+     * @param a el arreglo dónde buscar.
+     * @param e el elemento a buscar.
+     * @return el índice del elemento en el arreglo, o -1 si no se
+     * encuentra.
+     */
+    public static int busquedaBinaria(int[] a, int e) {
+      int ini = 0;
+      int fin = a.length - 1;
+      while(ini <= fin) {
+        int centro = (ini + fin) >>> 1;
+        if(a[centro] > e)
+          fin = centro - 1;
+        else if(a[centro] < e)
+          ini = centro + 1;
+        else
+          return centro;
+      }
+      return -1;
+    }
+
+    /**
+     * Ordena el arreglo de enteros largos recibido usando SelectionSort, sin
+     * envolver sus elementos en objetos.
+     * @param a el arreglo a ordenar.
+     */
+    public static void selectionSort(long[] a) {
+      for(int i = 0; i < a.length - 1; i++){
+        int minimo = i;
+        for(int j = i + 1; j < a.length; j++)
+          if(a[j] < a[minimo])
+            minimo = j;
+        if(minimo != i)
+          intercambia(a, i, minimo);
+      }
+    }
+
+    /**
+     * Ordena el arreglo de enteros largos recibido usando QuickSort, sin envolver
+     * sus elementos en objetos ni crear arreglos auxiliares. Es el mismo
+     * <em>introsort</em> que {@link #quickSort(Comparable[])}.
+     * @param a el arreglo a ordenar.
+     */
+    public static void quickSort(long[] a) {
+      introSort(a, 0, a.length - 1, 2 * log2(a.length));
+    }
+
+    /* Ordena el rango [ini, fin] del arreglo con introsort. */
+    private static void introSort(long[] a, int ini, int fin, int profundidad) {
+      while(fin - ini + 1 > UMBRAL_INSERCION) {
+        if(profundidad-- == 0) {
+          heapSort(a, ini, fin);
+          return;
+        }
+        long pivote = a[pivote(a, ini, fin)];
+        int menores = ini;
+        int i = ini;
+        int mayores = fin;
+        while(i <= mayores) {
+          if(a[i] < pivote)
+            intercambia(a, menores++, i++);
+          else if(a[i] > pivote)
+            intercambia(a, i, mayores--);
+          else
+            i++;
+        }
+        if(menores - ini < fin - mayores) {
+          introSort(a, ini, menores - 1, profundidad);
+          ini = mayores + 1;
+        }else{
+          introSort(a, mayores + 1, fin, profundidad);
+          fin = menores - 1;
+        }
+      }
+      insertionSort(a, ini, fin);
+    }
+
+    /* Regresa el índice del pivote para el rango [ini, fin]. */
+    private static int pivote(long[] a, int ini, int fin) {
+      int centro = (ini + fin) >>> 1;
+      if(fin - ini + 1 < UMBRAL_MEDIANA_NUEVE)
+        return mediana(a, ini, centro, fin);
+      int d = (fin - ini + 1) / 8;
+      return mediana(a,
+                     mediana(a, ini, ini + d, ini + 2 * d),
+                     mediana(a, centro - d, centro, centro + d),
+                     mediana(a, fin - 2 * d, fin - d, fin));
+    }
+
+    /* Regresa el índice del elemento mediano entre los de i, j y k. */
+    private static int mediana(long[] a, int i, int j, int k) {
+      if(a[i] < a[j]) {
+        if(a[j] < a[k])
+          return j;
+        return a[i] < a[k] ? k : i;
+      }
+      if(a[i] < a[k])
+        return i;
+      return a[j] < a[k] ? k : j;
+    }
+
+    /* Ordena el rango [ini, fin] del arreglo con InsertionSort. */
+    private static void insertionSort(long[] a, int ini, int fin) {
+      for(int i = ini + 1; i <= fin; i++) {
+        long elemento = a[i];
+        int j = i - 1;
+        while(j >= ini && a[j] > elemento) {
+          a[j + 1] = a[j];
+          j--;
+        }
+        a[j + 1] = elemento;
+      }
+    }
+
+    /* Ordena el rango [ini, fin] del arreglo con HeapSort. */
+    private static void heapSort(long[] a, int ini, int fin) {
+      int n = fin - ini + 1;
+      for(int i = n / 2 - 1; i >= 0; i--)
+        hunde(a, ini, i, n);
+      for(int m = n - 1; m > 0; m--) {
+        intercambia(a, ini, ini + m);
+        hunde(a, ini, 0, m);
+      }
+    }
+
+    /*
+     * Hunde el elemento i del montículo máximo de n elementos que empieza en
+     * el índice ini del arreglo.
+     */
+    private static void hunde(long[] a, int ini, int i, int n) {
+      long elemento = a[ini + i];
+      int hijo;
+      while((hijo = 2 * i + 1) < n) {
+        if(hijo + 1 < n && a[ini + hijo + 1] > a[ini + hijo])
+          hijo++;
+        if(a[ini + hijo] <= elemento)
+          break;
+        a[ini + i] = a[ini + hijo];
+        i = hijo;
+      }
+      a[ini + i] = elemento;
+    }
+
+    /* Intercambia dos elementos del arreglo. */
+    private static void intercambia(long[] a, int i, int j) {
+      long auxiliar = a[i];
+      a[i] = a[j];
+      a[j] = auxiliar;
+    }
+
+    /**
+     * Hace una búsqueda binaria del elemento en el arreglo ordenado de
+     * enteros largos. Revisa los mismos índices que {@link
+     * #busquedaBinaria(Comparable[], Comparable)}, pero compara los
+     * elementos directamente en lugar de llamar a <tt>compareTo</tt>.
+     * @param a el arreglo dónde buscar.
+     * @param e el elemento a buscar.
+     * @return el índice del elemento en el arreglo, o -1 si no se
+     * encuentra.
+     */
+    public static int busquedaBinaria(long[] a, long e) {
+      int ini = 0;
+      int fin = a.length - 1;
+      while(ini <= fin) {
+        int centro = (ini + fin) >>> 1;
+        if(a[centro] > e)
+          fin = centro - 1;
+        else if(a[centro] < e)
+          ini = centro + 1;
+        else
+          return centro;
+      }
+      return -1;
+    }
+
+    /**
+     * Ordena el arreglo de dobles recibido usando SelectionSort, sin
+     * envolver sus elementos en objetos.
+     * Los dobles se ordenan como en {@link Double#compare}: -0.0 va antes
+     * que 0.0, y NaN va después de todos los demás valores.
+     * @param a el arreglo a ordenar.
+     */
+    public static void selectionSort(double[] a) {
+      for(int i = 0; i < a.length - 1; i++){
+        int minimo = i;
+        for(int j = i + 1; j < a.length; j++)
+          if(Double.compare(a[j], a[minimo]) < 0)
+            minimo = j;
+        if(minimo != i)
+          intercambia(a, i, minimo);
+      }
+    }
+
+    /**
+     * Ordena el arreglo de dobles recibido usando QuickSort, sin envolver
+     * sus elementos en objetos ni crear arreglos auxiliares. Es el mismo
+     * <em>introsort</em> que {@link #quickSort(Comparable[])}.
+     * Los dobles se ordenan como en {@link Double#compare}: -0.0 va antes
+     * que 0.0, y NaN va después de todos los demás valores.
+     * @param a el arreglo a ordenar.
+     */
+    public static void quickSort(double[] a) {
+      introSort(a, 0, a.length - 1, 2 * log2(a.length));
+    }
+
+    /* Ordena el rango [ini, fin] del arreglo con introsort. */
+    private static void introSort(double[] a, int ini, int fin, int profundidad) {
+      while(fin - ini + 1 > UMBRAL_INSERCION) {
+        if(profundidad-- == 0) {
+          heapSort(a, ini, fin);
+          return;
+        }
+        double pivote = a[pivote(a, ini, fin)];
+        int menores = ini;
+        int i = ini;
+        int mayores = fin;
+        while(i <= mayores) {
+          int c = Double.compare(a[i], pivote);
+          if(c < 0)
+            intercambia(a, menores++, i++);
+          else if(c > 0)
+            intercambia(a, i, mayores--);
+          else
+            i++;
+        }
+        if(menores - ini < fin - mayores) {
+          introSort(a, ini, menores - 1, profundidad);
+          ini = mayores + 1;
+        }else{
+          introSort(a, mayores + 1, fin, profundidad);
+          fin = menores - 1;
+        }
+      }
+      insertionSort(a, ini, fin);
+    }
+
+    /* Regresa el índice del pivote para el rango [ini, fin]. */
+    private static int pivote(double[] a, int ini, int fin) {
+      int centro = (ini + fin) >>> 1;
+      if(fin - ini + 1 < UMBRAL_MEDIANA_NUEVE)
+        return mediana(a, ini, centro, fin);
+      int d = (fin - ini + 1) / 8;
+      return mediana(a,
+                     mediana(a, ini, ini + d, ini + 2 * d),
+                     mediana(a, centro - d, centro, centro + d),
+                     mediana(a, fin - 2 * d, fin - d, fin));
+    }
+
+    /* Regresa el índice del elemento mediano entre los de i, j y k. */
+    private static int mediana(double[] a, int i, int j, int k) {
+      if(Double.compare(a[i], a[j]) < 0) {
+        if(Double.compare(a[j], a[k]) < 0)
+          return j;
+        return Double.compare(a[i], a[k]) < 0 ? k : i;
+      }
+      if(Double.compare(a[i], a[k]) < 0)
+        return i;
+      return Double.compare(a[j], a[k]) < 0 ? k : j;
+    }
+
+    /* Ordena el rango [ini, fin] del arreglo con InsertionSort. */
+    private static void insertionSort(double[] a, int ini, int fin) {
+      for(int i = ini + 1; i <= fin; i++) {
+        double elemento = a[i];
+        int j = i - 1;
+        while(j >= ini && Double.compare(a[j], elemento) > 0) {
+          a[j + 1] = a[j];
+          j--;
+        }
+        a[j + 1] = elemento;
+      }
+    }
+
+    /* Ordena el rango [ini, fin] del arreglo con HeapSort. */
+    private static void heapSort(double[] a, int ini, int fin) {
+      int n = fin - ini + 1;
+      for(int i = n / 2 - 1; i >= 0; i--)
+        hunde(a, ini, i, n);
+      for(int m = n - 1; m > 0; m--) {
+        intercambia(a, ini, ini + m);
+        hunde(a, ini, 0, m);
+      }
+    }
+
+    /*
+     * Hunde el elemento i del montículo máximo de n elementos que empieza en
+     * el índice ini del arreglo.
+     */
+    private static void hunde(double[] a, int ini, int i, int n) {
+      double elemento = a[ini + i];
+      int hijo;
+      while((hijo = 2 * i + 1) < n) {
+        if(hijo + 1 < n && Double.compare(a[ini + hijo + 1], a[ini + hijo]) > 0)
+          hijo++;
+        if(Double.compare(a[ini + hijo], elemento) <= 0)
+          break;
+        a[ini + i] = a[ini + hijo];
+        i = hijo;
+      }
+      a[ini + i] = elemento;
+    }
+
+    /* Intercambia dos elementos del arreglo. */
+    private static void intercambia(double[] a, int i, int j) {
+      double auxiliar = a[i];
+      a[i] = a[j];
+      a[j] = auxiliar;
+    }
+
+    /**
+     * Hace una búsqueda binaria del elemento en el arreglo ordenado de
+     * dobles. Revisa los mismos índices que {@link
+     * #busquedaBinaria(Comparable[], Comparable)}, con una sola llamada a
+     * {@link Double#compare} por paso. Los dobles se comparan como en ese
+     * método, así que NaN se encuentra a sí mismo y -0.0 es distinto de 0.0.
+     * @param a el arreglo dónde buscar.
+     * @param e el elemento a buscar.
+     * @return el índice del elemento en el arreglo, o -1 si no se
+     * encuentra.
+     */
+    public static int busquedaBinaria(double[] a, double e) {
+      int ini = 0;
+      int fin = a.length - 1;
+      while(ini <= fin) {
+        int centro = (ini + fin) >>> 1;
+        int c = Double.compare(a[centro], e);
+        if(c > 0)
+          fin = centro - 1;
+        else if(c < 0)
+          ini = centro + 1;
+        else
+          return centro;
+      }
+      return -1;
+    }
 }
@@ -37,11 +37,13 @@ public abstract class BaseDeDatos<T extends Registro> {
 
     /**
      * Regresa una lista con los registros en la base de datos. Modificar esta
-     * lista no cambia a la informaciÃ³n en la base de datos.
+     * lista no cambia a la informaciÃ³n en la base de datos. La lista comparte
+     * sus nodos con la base de datos hasta que alguna de las dos se modifica,
+     * por lo que regresarla cuesta O(1).
      * @return una lista con los registros en la base de datos.
      */
     public Lista<T> getRegistros() {
-      return registros.copia();
+      return registros.instantanea();
     }
 
     /**
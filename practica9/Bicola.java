@@ -0,0 +1,254 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Clase genérica para bicolas.</p>
+ *
+ * <p>Una bicola permite agregar y eliminar elementos en ambos extremos. Tiene
+ * los mismos métodos que {@link Lista} para esas operaciones, pero guarda sus
+ * elementos en un arreglo circular en lugar de en nodos ligados: no crea
+ * ningún objeto por elemento, y sus elementos están juntos en memoria. Usada
+ * sólo con {@link #agregaFinal} y {@link #eliminaPrimero}, es una cola.</p>
+ *
+ * <p>Cuando el arreglo se llena, su capacidad se duplica. Si se pide al
+ * construirla, la bicola también reduce su capacidad a la mitad cuando usa
+ * una cuarta parte o menos de ella. Las bicolas no aceptan a
+ * <code>null</code> como elemento.</p>
+ */
+public class Bicola<T> implements Iterable<T> {
+
+    /* Capacidad inicial por omisión; siempre es una potencia de dos. */
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /* Arreglo circular con los elementos; su longitud es potencia de dos. */
+    private Object[] elementos;
+    /* Índice del primer elemento en el arreglo. */
+    private int inicio;
+    /* Número de elementos en la bicola. */
+    private int longitud;
+    /* Capacidad mínima del arreglo al encogerse. */
+    private int capacidadMinima;
+    /* Nos dice si el arreglo se encoge cuando está casi vacío. */
+    private boolean encoge;
+
+    /**
+     * Construye una bicola vacía que no se encoge.
+     */
+    public Bicola() {
+      this(CAPACIDAD_INICIAL, false);
+    }
+
+    /**
+     * Construye una bicola vacía.
+     * @param capacidad el número de elementos para los que hay espacio al
+     *        inicio; se redondea a la siguiente potencia de dos.
+     * @param encoge si la bicola debe reducir su capacidad cuando esté casi
+     *        vacía, sin bajar de la capacidad inicial.
+     * @throws IllegalArgumentException si la capacidad no es positiva o es
+     *         mayor que 2<sup>30</sup>.
+     */
+    public Bicola(int capacidad, boolean encoge) {
+      if(capacidad < 1 || capacidad > (1 << 30))
+        throw new IllegalArgumentException();
+      capacidadMinima = Integer.highestOneBit(capacidad);
+      if(capacidadMinima < capacidad)
+        capacidadMinima <<= 1;
+      elementos = new Object[capacidadMinima];
+      this.encoge = encoge;
+    }
+
+    /* Regresa el índice en el arreglo del i-ésimo elemento. */
+    private int indice(int i) {
+      return (inicio + i) & (elementos.length - 1);
+    }
+
+    /* Regresa el elemento en el índice recibido del arreglo. */
+    @SuppressWarnings("unchecked") private T elemento(int indice) {
+      return (T)elementos[indice];
+    }
+
+    /* Copia los elementos a un arreglo nuevo de la capacidad recibida. */
+    private void redimensiona(int capacidad) {
+      Object[] nuevos = new Object[capacidad];
+      int primeros = Math.min(longitud, elementos.length - inicio);
+      System.arraycopy(elementos, inicio, nuevos, 0, primeros);
+      System.arraycopy(elementos, 0, nuevos, primeros, longitud - primeros);
+      elementos = nuevos;
+      inicio = 0;
+    }
+
+    /* Duplica la capacidad si el arreglo está lleno. */
+    private void asegura() {
+      if(longitud == elementos.length)
+        redimensiona(elementos.length << 1);
+    }
+
+    /* Reduce la capacidad a la mitad si la bicola debe encogerse. */
+    private void ajusta() {
+      if(encoge && elementos.length > capacidadMinima &&
+         longitud <= elementos.length >> 2)
+        redimensiona(elementos.length >> 1);
+    }
+
+    /**
+     * Regresa la longitud de la bicola.
+     * @return la longitud de la bicola, el número de elementos que contiene.
+     */
+    public int getLongitud() {
+      return longitud;
+    }
+
+    /**
+     * Nos dice si la bicola es vacía.
+     * @return <code>true</code> si la bicola es vacía, <code>false</code> en
+     *         otro caso.
+     */
+    public boolean esVacia() {
+      return longitud == 0;
+    }
+
+    /**
+     * Agrega un elemento al final de la bicola.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public void agregaFinal(T elemento) {
+      if(elemento == null)
+        throw new IllegalArgumentException();
+      asegura();
+      elementos[indice(longitud)] = elemento;
+      longitud++;
+    }
+
+    /**
+     * Agrega un elemento al inicio de la bicola.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public void agregaInicio(T elemento) {
+      if(elemento == null)
+        throw new IllegalArgumentException();
+      asegura();
+      inicio = (inicio - 1) & (elementos.length - 1);
+      elementos[inicio] = elemento;
+      longitud++;
+    }
+
+    /**
+     * Elimina el primer elemento de la bicola y lo regresa.
+     * @return el primer elemento de la bicola antes de eliminarlo.
+     * @throws NoSuchElementException si la bicola es vacía.
+     */
+    public T eliminaPrimero() {
+      if(longitud == 0)
+        throw new NoSuchElementException();
+      T elementoEliminado = elemento(inicio);
+      elementos[inicio] = null;
+      inicio = indice(1);
+      longitud--;
+      ajusta();
+      return elementoEliminado;
+    }
+
+    /**
+     * Elimina el último elemento de la bicola y lo regresa.
+     * @return el último elemento de la bicola antes de eliminarlo.
+     * @throws NoSuchElementException si la bicola es vacía.
+     */
+    public T eliminaUltimo() {
+      if(longitud == 0)
+        throw new NoSuchElementException();
+      int i = indice(longitud - 1);
+      T elementoEliminado = elemento(i);
+      elementos[i] = null;
+      longitud--;
+      ajusta();
+      return elementoEliminado;
+    }
+
+    /**
+     * Regresa el primer elemento de la bicola.
+     * @return el primer elemento de la bicola.
+     * @throws NoSuchElementException si la bicola es vacía.
+     */
+    public T getPrimero() {
+      if(longitud == 0)
+        throw new NoSuchElementException();
+      return elemento(inicio);
+    }
+
+    /**
+     * Regresa el último elemento de la bicola.
+     * @return el último elemento de la bicola.
+     * @throws NoSuchElementException si la bicola es vacía.
+     */
+    public T getUltimo() {
+      if(longitud == 0)
+        throw new NoSuchElementException();
+      return elemento(indice(longitud - 1));
+    }
+
+    /**
+     * Regresa el <em>i</em>-ésimo elemento de la bicola.
+     * @param i el índice del elemento que queremos.
+     * @return el <em>i</em>-ésimo elemento de la bicola.
+     * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor o
+     *         igual que el número de elementos en la bicola.
+     */
+    public T get(int i) {
+      if(i < 0 || i >= longitud)
+        throw new ExcepcionIndiceInvalido();
+      return elemento(indice(i));
+    }
+
+    /**
+     * Limpia la bicola de elementos. Si la bicola se encoge, su capacidad
+     * regresa a la inicial.
+     */
+    public void limpia() {
+      if(encoge)
+        elementos = new Object[capacidadMinima];
+      else
+        for(int i = 0; i < longitud; i++)
+          elementos[indice(i)] = null;
+      inicio = 0;
+      longitud = 0;
+    }
+
+    /**
+     * Regresa una representación en cadena de la bicola.
+     * @return una representación en cadena de la bicola.
+     */
+    @Override public String toString() {
+      StringBuilder sb = new StringBuilder("[");
+      for(int i = 0; i < longitud; i++){
+        if(i > 0)
+          sb.append(", ");
+        sb.append(elementos[indice(i)]);
+      }
+      return sb.append("]").toString();
+    }
+
+    /**
+     * Regresa un iterador para recorrer la bicola del primero al último
+     * elemento.
+     * @return un iterador para recorrer la bicola.
+     */
+    @Override public Iterator<T> iterator() {
+      return new Iterator<T>() {
+        private int siguiente = 0;
+
+        @Override public boolean hasNext() {
+          return siguiente < longitud;
+        }
+
+        @Override public T next() {
+          if(siguiente >= longitud)
+            throw new NoSuchElementException();
+          return elemento(indice(siguiente++));
+        }
+      };
+    }
+}
@@ -157,6 +157,20 @@ public class Estudiante implements Registro {
               this.getEdad() == estObj.getEdad() );
     }
 
+    /**
+     * Regresa un cÃ³digo de dispersiÃ³n para el estudiante, consistente con
+     * {@link #equals}.
+     * @return un cÃ³digo de dispersiÃ³n para el estudiante.
+     */
+    @Override public int hashCode() {
+      double p = getPromedio();
+      int h = getNombre() == null ? 0 : getNombre().hashCode();
+      h = 31 * h + getCuenta();
+      h = 31 * h + (p == 0.0 ? 0 : Double.hashCode(p));
+      h = 31 * h + getEdad();
+      return h;
+    }
+
     /**
      * Regresa una representaciÃ³n en cadena del estudiante.
      * @return una representaciÃ³n en cadena del estudiante.
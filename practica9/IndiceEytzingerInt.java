@@ -0,0 +1,128 @@
+/**
+ * <p>Clase para índices de búsqueda sobre arreglos ordenados de enteros.</p>
+ *
+ * <p>Un índice se construye una vez a partir de un arreglo ordenado y después
+ * sólo se consulta. Guarda una copia de los elementos en el orden de
+ * Eytzinger: el elemento central en la posición 1, y los hijos de la posición
+ * <em>k</em> en las posiciones 2<em>k</em> y 2<em>k</em> + 1, como en un
+ * montículo. Los primeros niveles del árbol, que toda búsqueda recorre,
+ * quedan juntos al inicio del arreglo y se mantienen en caché, y los
+ * descendientes de una posición unos niveles abajo están juntos en memoria.
+ * En índices pequeños, que caben en caché, la búsqueda desciende sin
+ * ramificarse: el siguiente índice se calcula aritméticamente a partir del
+ * resultado de cada comparación. En índices grandes cada nivel es una falla
+ * de caché; ahí la búsqueda usa una rama, para que el procesador adelante
+ * especulativamente la lectura del nivel siguiente mientras espera la del
+ * actual. Java no tiene instrucciones para precargar memoria, y la
+ * especulación hace ese papel.</p>
+ *
+ * <p>{@link #busca} regresa los mismos índices que {@link
+ * Arreglos#busquedaBinaria(int[], int)} sobre el arreglo original, incluso
+ * cuando hay elementos repetidos.</p>
+ */
+public class IndiceEytzingerInt {
+
+    /*
+     * Número máximo de elementos para buscar sin ramificarse; el arreglo de
+     * un índice de este tamaño (256 KB) cabe en caché.
+     */
+    private static final int MAXIMO_SIN_RAMAS = (1 << 15) - 1;
+
+    /*
+     * Los nodos en orden de Eytzinger, a partir de la posición 1: el
+     * elemento en los 32 bits altos, y en los bajos el índice en el arreglo
+     * original que la búsqueda regresa para esa posición.
+     */
+    private long[] nodos;
+
+    /**
+     * Construye un índice para el arreglo ordenado recibido. El índice
+     * copia los elementos, así que modificar el arreglo después no lo
+     * afecta.
+     * @param a el arreglo ordenado de menor a mayor.
+     * @throws IllegalArgumentException si el arreglo no está ordenado, o si
+     *         tiene 2<sup>30</sup> elementos o más.
+     */
+    public IndiceEytzingerInt(int[] a) {
+      if(a.length >= 1 << 30)
+        throw new IllegalArgumentException();
+      for(int i = 1; i < a.length; i++)
+        if(a[i - 1] > a[i])
+          throw new IllegalArgumentException();
+      nodos = new long[a.length + 1];
+      construye(a, 0, 1);
+      /* Con repetidos, la búsqueda binaria no siempre cae en el primero. */
+      for(int k = 1; k <= a.length; k++){
+        int i = indice(k);
+        if((i > 0 && a[i - 1] == a[i]) ||
+           (i + 1 < a.length && a[i + 1] == a[i]))
+          nodos[k] = nodo(a[i], Arreglos.busquedaBinaria(a, a[i]));
+      }
+    }
+
+    /* Regresa el nodo con el elemento y el índice recibidos. */
+    private static long nodo(int elemento, int indice) {
+      return ((long)elemento << 32) | indice;
+    }
+
+    /* Regresa el índice en el arreglo original del nodo en la posición k. */
+    private int indice(int k) {
+      return (int)nodos[k];
+    }
+
+    /*
+     * Llena el subárbol de la posición k con los elementos del arreglo a
+     * partir del índice i, en orden; regresa el índice del siguiente
+     * elemento sin usar.
+     */
+    private int construye(int[] a, int i, int k) {
+      if(k >= nodos.length)
+        return i;
+      i = construye(a, i, 2 * k);
+      nodos[k] = nodo(a[i], i);
+      return construye(a, i + 1, 2 * k + 1);
+    }
+
+    /**
+     * Regresa el número de elementos en el índice.
+     * @return el número de elementos en el índice.
+     */
+    public int getLongitud() {
+      return nodos.length - 1;
+    }
+
+    /*
+     * Regresa 1 si x < y, o 0 en otro caso, sin ramificarse: es el signo de
+     * x - y, corregido para cuando la resta se desborda.
+     */
+    private static int menor(long x, long y) {
+      long d = x - y;
+      return (int)((d ^ ((x ^ y) & (d ^ x))) >>> 63);
+    }
+
+    /**
+     * Busca el elemento recibido.
+     * @param e el elemento a buscar.
+     * @return el índice del elemento en el arreglo con que se construyó el
+     *         índice, o -1 si no se encuentra.
+     */
+    public int busca(int e) {
+      int n = nodos.length - 1;
+      /* Un nodo es menor que ésta si y sólo si su elemento es menor que e. */
+      long clave = (long)e << 32;
+      int k = 1;
+      if(n <= MAXIMO_SIN_RAMAS){
+        while(k <= n)
+          k = 2 * k + menor(nodos[k], clave);
+      }else{
+        /* Con ramas el procesador adelanta la lectura del nivel siguiente. */
+        while(k <= n)
+          k = nodos[k] < clave ? 2 * k + 1 : 2 * k;
+      }
+      /* Quita los pasos a la derecha del final y el último a la izquierda. */
+      k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+      if(k == 0 || (int)(nodos[k] >> 32) != e)
+        return -1;
+      return indice(k);
+    }
+}
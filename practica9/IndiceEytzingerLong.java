@@ -0,0 +1,107 @@
+/**
+ * <p>Clase para índices de búsqueda sobre arreglos ordenados de enteros
+ * largos.</p>
+ *
+ * <p>Un índice se construye una vez a partir de un arreglo ordenado y después
+ * sólo se consulta. Guarda una copia de los elementos en el orden de
+ * Eytzinger, y los busca sin ramificarse si el índice es pequeño y con
+ * ramas si es grande, igual que {@link IndiceEytzingerInt}.</p>
+ *
+ * <p>{@link #busca} regresa los mismos índices que {@link
+ * Arreglos#busquedaBinaria(long[], long)} sobre el arreglo original, incluso
+ * cuando hay elementos repetidos.</p>
+ */
+public class IndiceEytzingerLong {
+
+    /*
+     * Número máximo de elementos para buscar sin ramificarse; el arreglo de
+     * un índice de este tamaño (256 KB) cabe en caché.
+     */
+    private static final int MAXIMO_SIN_RAMAS = (1 << 15) - 1;
+
+    /* Los elementos en orden de Eytzinger, a partir de la posición 1. */
+    private long[] elementos;
+    /* Índice en el arreglo original que regresa cada posición. */
+    private int[] indices;
+
+    /**
+     * Construye un índice para el arreglo ordenado recibido. El índice
+     * copia los elementos, así que modificar el arreglo después no lo
+     * afecta.
+     * @param a el arreglo ordenado de menor a mayor.
+     * @throws IllegalArgumentException si el arreglo no está ordenado, o si
+     *         tiene 2<sup>30</sup> elementos o más.
+     */
+    public IndiceEytzingerLong(long[] a) {
+      if(a.length >= 1 << 30)
+        throw new IllegalArgumentException();
+      for(int i = 1; i < a.length; i++)
+        if(a[i - 1] > a[i])
+          throw new IllegalArgumentException();
+      elementos = new long[a.length + 1];
+      indices = new int[a.length + 1];
+      construye(a, 0, 1);
+      /* Con repetidos, la búsqueda binaria no siempre cae en el primero. */
+      for(int k = 1; k <= a.length; k++){
+        int i = indices[k];
+        if((i > 0 && a[i - 1] == a[i]) ||
+           (i + 1 < a.length && a[i + 1] == a[i]))
+          indices[k] = Arreglos.busquedaBinaria(a, a[i]);
+      }
+    }
+
+    /*
+     * Llena el subárbol de la posición k con los elementos del arreglo a
+     * partir del índice i, en orden; regresa el índice del siguiente
+     * elemento sin usar.
+     */
+    private int construye(long[] a, int i, int k) {
+      if(k >= elementos.length)
+        return i;
+      i = construye(a, i, 2 * k);
+      elementos[k] = a[i];
+      indices[k] = i;
+      return construye(a, i + 1, 2 * k + 1);
+    }
+
+    /**
+     * Regresa el número de elementos en el índice.
+     * @return el número de elementos en el índice.
+     */
+    public int getLongitud() {
+      return elementos.length - 1;
+    }
+
+    /*
+     * Regresa 1 si x < y, o 0 en otro caso, sin ramificarse: es el signo de
+     * x - y, corregido para cuando la resta se desborda.
+     */
+    private static int menor(long x, long y) {
+      long d = x - y;
+      return (int)((d ^ ((x ^ y) & (d ^ x))) >>> 63);
+    }
+
+    /**
+     * Busca el elemento recibido.
+     * @param e el elemento a buscar.
+     * @return el índice del elemento en el arreglo con que se construyó el
+     *         índice, o -1 si no se encuentra.
+     */
+    public int busca(long e) {
+      int n = elementos.length - 1;
+      int k = 1;
+      if(n <= MAXIMO_SIN_RAMAS){
+        while(k <= n)
+          k = 2 * k + menor(elementos[k], e);
+      }else{
+        /* Con ramas el procesador adelanta la lectura del nivel siguiente. */
+        while(k <= n)
+          k = elementos[k] < e ? 2 * k + 1 : 2 * k;
+      }
+      /* Quita los pasos a la derecha del final y el último a la izquierda. */
+      k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+      if(k == 0 || elementos[k] != e)
+        return -1;
+      return indices[k];
+    }
+}
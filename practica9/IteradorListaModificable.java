@@ -0,0 +1,28 @@
+/**
+ * Interfaz para iteradores de listas que además de recorrer la lista en ambas
+ * direcciones pueden modificarla en la posición del iterador. El iterador
+ * está siempre entre dos elementos de la lista (o en uno de sus extremos), y
+ * todas las operaciones se hacen en tiempo constante.
+ */
+public interface IteradorListaModificable<T> extends IteradorLista<T> {
+
+    /**
+     * Agrega un elemento a la lista en la posición del iterador, de manera
+     * que queda antes del iterador; el siguiente elemento que regresa {@link
+     * #previous} es el elemento agregado.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public void agregaAntes(T elemento);
+
+    /**
+     * Agrega un elemento a la lista en la posición del iterador, de manera
+     * que queda después del iterador; el siguiente elemento que regresa {@link
+     * #next} es el elemento agregado.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public void agregaDespues(T elemento);
+}
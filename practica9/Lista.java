@@ -1,5 +1,12 @@
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <p>Clase genérica para listas doblemente ligadas.</p>
@@ -8,11 +15,12 @@ import java.util.NoSuchElementException;
  * eliminar elementos de la lista, comprobar si un elemento está o no en la
  * lista, y otras operaciones básicas.</p>
  *
- * <p>Las listas implementan la interfaz {@link Iterable}, y por lo tanto se
- * pueden recorrer usando la estructura de control <em>for-each</em>. Las listas
- * no aceptan a <code>null</code> como elemento.</p>
+ * <p>Las listas implementan la interfaz {@link VistaLista}, que extiende a
+ * {@link Iterable}, y por lo tanto se pueden recorrer usando la estructura de
+ * control <em>for-each</em>. Las listas no aceptan a <code>null</code> como
+ * elemento.</p>
  */
-public class Lista<T> implements Iterable<T>{
+public class Lista<T> implements VistaLista<T> {
 
     /* Clase Nodo privada para uso interno de la clase Lista. */
     private class Nodo {
@@ -25,10 +33,35 @@ public class Lista<T> implements Iterable<T>{
       }
     }
 
+    /*
+     * Clase Propietarios privada para contar cuántas listas comparten una
+     * misma cadena de nodos.
+     */
+    private static class Propietarios {
+      public int cuenta = 1;
+    }
+
+    /*
+     * Clase Dedo privada para recordar el último nodo accedido por índice.
+     * Es inmutable y se publica en un solo campo, así que los hilos que sólo
+     * leen la lista nunca ven el nodo de un dedo con el índice de otro.
+     */
+    private class Dedo {
+      public final Nodo nodo;
+      public final int indice;
+
+      public Dedo(Nodo nodo, int indice) {
+        this.nodo = nodo;
+        this.indice = indice;
+      }
+    }
+
     /* Clase Iterador privada para iteradores. */
-    private class Iterador implements IteradorLista<T> {
+    private class Iterador implements IteradorListaModificable<T> {
         public Lista<T>.Nodo anterior;
         public Lista<T>.Nodo siguiente;
+        /* Último nodo regresado por next o previous; null si no hay. */
+        public Lista<T>.Nodo ultimo;
 
         public Iterador() {
           anterior = null;
@@ -46,6 +79,7 @@ public class Lista<T> implements Iterable<T>{
             throw new NoSuchElementException();
           anterior = siguiente;
           siguiente = siguiente.siguiente;
+          ultimo = anterior;
           return anterior.elemento;
         }
 
@@ -60,6 +94,7 @@ public class Lista<T> implements Iterable<T>{
             throw new NoSuchElementException();
           siguiente = anterior;
           anterior = anterior.anterior;
+          ultimo = siguiente;
           return siguiente.elemento;
         }
 
@@ -67,26 +102,326 @@ public class Lista<T> implements Iterable<T>{
         @Override public void start() {
           anterior = null;
           siguiente = cabeza;
+          ultimo = null;
         }
 
         /* Mueve el iterador al final de la lista. */
         @Override public void end() {
           anterior = rabo;
           siguiente = null;
+          ultimo = null;
         }
 
-        /* No implementamos este método. */
+        /* Elimina el último elemento regresado por next o previous. */
         @Override public void remove() {
-            throw new UnsupportedOperationException();
+          if(ultimo == null)
+            throw new IllegalStateException();
+          separaIterador();
+          if(ultimo == anterior)
+            anterior = ultimo.anterior;
+          else
+            siguiente = ultimo.siguiente;
+          desliga(ultimo);
+          ultimo = null;
+        }
+
+        /* Agrega un elemento antes del iterador. */
+        @Override public void agregaAntes(T elemento) {
+          separaIterador();
+          anterior = liga(elemento, anterior, siguiente);
+          ultimo = null;
+        }
+
+        /* Agrega un elemento después del iterador. */
+        @Override public void agregaDespues(T elemento) {
+          separaIterador();
+          siguiente = liga(elemento, anterior, siguiente);
+          ultimo = null;
+        }
+
+        /*
+         * Si la lista comparte sus nodos con una instantánea, la separa y
+         * mueve las referencias del iterador a los nodos nuevos, en la misma
+         * posición.
+         */
+        private void separaIterador() {
+          if(propietarios == null)
+            return;
+          int indice = 0;
+          for(Nodo n = cabeza; n != siguiente; n = n.siguiente)
+            indice++;
+          boolean ultimoEsAnterior = ultimo != null && ultimo == anterior;
+          boolean ultimoEsSiguiente = ultimo != null && ultimo == siguiente;
+          separa();
+          siguiente = indice < longitud ? nodoEn(indice) : null;
+          anterior = indice > 0 ? nodoEn(indice - 1) : null;
+          if(ultimoEsAnterior)
+            ultimo = anterior;
+          else if(ultimoEsSiguiente)
+            ultimo = siguiente;
+        }
+    }
+
+    /* Clase Particionador privada para recorrer la lista en streams. */
+    private class Particionador implements Spliterator<T> {
+        /* Nodo del siguiente elemento a recorrer. */
+        public Nodo actual;
+        /* Número de elementos que faltan por recorrer. */
+        public int restantes;
+
+        public Particionador(Nodo actual, int restantes) {
+          this.actual = actual;
+          this.restantes = restantes;
+        }
+
+        /* Recorre el siguiente elemento, si hay. */
+        @Override public boolean tryAdvance(Consumer<? super T> accion) {
+          if(restantes == 0)
+            return false;
+          T elemento = actual.elemento;
+          actual = actual.siguiente;
+          restantes--;
+          accion.accept(elemento);
+          return true;
+        }
+
+        /* Recorre todos los elementos que faltan. */
+        @Override public void forEachRemaining(Consumer<? super T> accion) {
+          for(; restantes > 0; restantes--){
+            accion.accept(actual.elemento);
+            actual = actual.siguiente;
+          }
+        }
+
+        /*
+         * Parte los elementos que faltan a la mitad; regresa un particionador
+         * para la primera mitad y se queda con la segunda.
+         */
+        @Override public Spliterator<T> trySplit() {
+          if(restantes < 2)
+            return null;
+          int mitad = restantes / 2;
+          Particionador primeraMitad = new Particionador(actual, mitad);
+          for(int i = 0; i < mitad; i++)
+            actual = actual.siguiente;
+          restantes -= mitad;
+          return primeraMitad;
+        }
+
+        /* Regresa el número exacto de elementos que faltan. */
+        @Override public long estimateSize() {
+          return restantes;
+        }
+
+        @Override public int characteristics() {
+          return ORDERED | SIZED | SUBSIZED | NONNULL;
         }
     }
 
+    /* Clase SubLista privada para vistas de un intervalo de la lista. */
+    private class SubLista implements VistaLista<T> {
+        /* Primer nodo de la vista; null si es vacía. */
+        public Nodo primero;
+        /* Último nodo de la vista; null si es vacía. */
+        public Nodo ultimo;
+        /* Número de elementos en la vista. */
+        public int longitud;
+
+        public SubLista(Nodo primero, Nodo ultimo, int longitud) {
+          this.primero = primero;
+          this.ultimo = ultimo;
+          this.longitud = longitud;
+        }
+
+        @Override public int getLongitud() {
+          return longitud;
+        }
+
+        @Override public boolean esVacia() {
+          return longitud == 0;
+        }
+
+        @Override public T getPrimero() {
+          if(longitud == 0)
+            throw new NoSuchElementException();
+          return primero.elemento;
+        }
+
+        @Override public T getUltimo() {
+          if(longitud == 0)
+            throw new NoSuchElementException();
+          return ultimo.elemento;
+        }
+
+        /* Recorre la vista desde el extremo más cercano al índice. */
+        @Override public T get(int i) {
+          if(i < 0 || i >= longitud)
+            throw new ExcepcionIndiceInvalido();
+          Nodo n;
+          if(i < longitud / 2){
+            n = primero;
+            for(int j = 0; j < i; j++)
+              n = n.siguiente;
+          }else{
+            n = ultimo;
+            for(int j = longitud - 1; j > i; j--)
+              n = n.anterior;
+          }
+          return n.elemento;
+        }
+
+        @Override public boolean contiene(T elemento) {
+          return indiceDe(elemento) != -1;
+        }
+
+        @Override public int indiceDe(T elemento) {
+          Nodo n = primero;
+          for(int i = 0; i < longitud; i++, n = n.siguiente)
+            if(n.elemento.equals(elemento))
+              return i;
+          return -1;
+        }
+
+        @Override public Iterator<T> iterator() {
+          return new Iterator<T>() {
+            private Nodo siguiente = primero;
+            private int restantes = longitud;
+
+            @Override public boolean hasNext() {
+              return restantes > 0;
+            }
+
+            @Override public T next() {
+              if(restantes == 0)
+                throw new NoSuchElementException();
+              T elemento = siguiente.elemento;
+              siguiente = siguiente.siguiente;
+              restantes--;
+              return elemento;
+            }
+          };
+        }
+
+        @Override public String toString() {
+          StringBuilder sb = new StringBuilder("[");
+          Nodo n = primero;
+          for(int i = 0; i < longitud; i++, n = n.siguiente){
+            if(i > 0)
+              sb.append(", ");
+            sb.append(n.elemento);
+          }
+          return sb.append("]").toString();
+        }
+    }
+
+    /*
+     * Clase VistaReversa privada para ver la lista en orden inverso. La vista
+     * lee los campos de la lista cada vez, así que siempre refleja su estado
+     * actual.
+     */
+    private class VistaReversa implements VistaLista<T> {
+
+        @Override public int getLongitud() {
+          return longitud;
+        }
+
+        @Override public boolean esVacia() {
+          return cabeza == null;
+        }
+
+        @Override public T getPrimero() {
+          return Lista.this.getUltimo();
+        }
+
+        @Override public T getUltimo() {
+          return Lista.this.getPrimero();
+        }
+
+        @Override public T get(int i) {
+          if(i < 0 || i >= longitud)
+            throw new ExcepcionIndiceInvalido();
+          return nodoEn(longitud - 1 - i).elemento;
+        }
+
+        @Override public boolean contiene(T elemento) {
+          return Lista.this.contiene(elemento);
+        }
+
+        /* Busca desde el rabo, así encontramos la primera aparición. */
+        @Override public int indiceDe(T elemento) {
+          int contador = 0;
+          for(Nodo n = rabo; n != null; n = n.anterior){
+            if(n.elemento.equals(elemento))
+              return contador;
+            contador++;
+          }
+          return -1;
+        }
+
+        @Override public Iterator<T> iterator() {
+          return new Iterator<T>() {
+            private Nodo siguiente = rabo;
+
+            @Override public boolean hasNext() {
+              return siguiente != null;
+            }
+
+            @Override public T next() {
+              if(siguiente == null)
+                throw new NoSuchElementException();
+              T elemento = siguiente.elemento;
+              siguiente = siguiente.anterior;
+              return elemento;
+            }
+          };
+        }
+
+        @Override public String toString() {
+          StringBuilder sb = new StringBuilder("[");
+          for(Nodo n = rabo; n != null; n = n.anterior){
+            sb.append(n.elemento);
+            if(n.anterior != null)
+              sb.append(", ");
+          }
+          return sb.append("]").toString();
+        }
+    }
+
+    /**
+     * Número de elementos por debajo del cual {@link
+     * #ordenaParalelo(Comparator)} ordena un segmento secuencialmente.
+     */
+    public static final int UMBRAL_PARALELO = 8192;
+
+    /* Número de victorias seguidas de una corrida para empezar a galopar. */
+    private static final int GALOPE = 7;
+
+    /* El inverso multiplicativo de 31 módulo 2³². */
+    private static final int INVERSO_31 = 0xbdef7bdf;
+
+    /* Pila de nodos reciclados, ligados por su referencia siguiente. */
+    private Nodo reciclados;
+    /* Número de nodos en la pila de reciclados. */
+    private int numReciclados;
+    /* Número máximo de nodos en la pila de reciclados. */
+    private int maximoReciclados;
+
     /* Primer elemento de la lista. */
     private Nodo cabeza;
     /* Último elemento de la lista. */
     private Nodo rabo;
     /* Número de elementos en la lista. */
     private int longitud;
+    /* Listas que comparten estos nodos; null si no se comparten. */
+    private Propietarios propietarios;
+    /* Código de dispersión de la lista; sólo es válido si dispersionValida. */
+    private int dispersion;
+    /* 31 elevado a la longitud de la lista; sólo es válido si dispersionValida. */
+    private int potencia;
+    /* Nos dice si dispersion y potencia corresponden a los elementos. */
+    private boolean dispersionValida;
+    /* Último nodo accedido por índice, con su índice; puede ser null. */
+    private Dedo dedo;
 
     /**
      * Regresa la longitud de la lista.
@@ -114,16 +449,21 @@ public class Lista<T> implements Iterable<T>{
      *         <code>null</code>.
      */
     public void agregaFinal(T elemento) {
-      if(elemento == null){
+      if(elemento == null)
         throw new IllegalArgumentException();
-      }else if(cabeza == null){
-        cabeza = new Nodo(elemento);
+      separa();
+      if(cabeza == null){
+        cabeza = nuevoNodo(elemento);
         rabo = cabeza;
       }else{
-        rabo.siguiente = new Nodo(elemento);
+        rabo.siguiente = nuevoNodo(elemento);
         rabo.siguiente.anterior = rabo;
         rabo = rabo.siguiente;
       }
+      if(dispersionValida){
+        dispersion = 31 * dispersion + elemento.hashCode();
+        potencia *= 31;
+      }
       longitud++;
     }
 
@@ -136,16 +476,23 @@ public class Lista<T> implements Iterable<T>{
      *         <code>null</code>.
      */
     public void agregaInicio(T elemento) {
-      if(elemento == null){
+      if(elemento == null)
         throw new IllegalArgumentException();
-      }else if(cabeza == null){
-        cabeza = new Nodo(elemento);
+      separa();
+      if(cabeza == null){
+        cabeza = nuevoNodo(elemento);
         rabo = cabeza;
       }else{
-        cabeza.anterior = new Nodo(elemento);
+        cabeza.anterior = nuevoNodo(elemento);
         cabeza.anterior.siguiente = cabeza;
         cabeza = cabeza.anterior;
       }
+      if(dedo != null)
+        dedo = new Dedo(dedo.nodo, dedo.indice + 1);
+      if(dispersionValida){
+        dispersion += potencia * (30 + elemento.hashCode());
+        potencia *= 31;
+      }
       longitud++;
     }
 
@@ -156,6 +503,7 @@ public class Lista<T> implements Iterable<T>{
      * @param elemento el elemento a eliminar.
      */
     public void elimina(T elemento) {
+      int indice = 0;
       for(Nodo n = cabeza; n != null; n = n.siguiente){
         if(n.elemento.equals(elemento)){
           if(n.anterior == null){
@@ -163,15 +511,119 @@ public class Lista<T> implements Iterable<T>{
           }else if(n.siguiente == null){
             eliminaUltimo();
           }else{
+            if(propietarios != null){
+              separa();
+              n = nodoEn(indice);
+            }
             n.anterior.siguiente = n.siguiente;
             n.siguiente.anterior = n.anterior;
             longitud--;
+            dispersionValida = false;
+            if(dedo != null && n == dedo.nodo)
+              dedo = null;
+            else if(dedo != null && indice < dedo.indice)
+              dedo = new Dedo(dedo.nodo, dedo.indice - 1);
+            recicla(n);
           }
           break;
         }
+        indice++;
       }
     }
 
+    /**
+     * Define cuántos nodos puede guardar la lista para reciclarlos. Con un
+     * máximo positivo, los nodos que dejan de usarse al eliminar elementos (o
+     * al limpiar la lista) se guardan, hasta el máximo, y {@link
+     * #agregaFinal} y {@link #agregaInicio} los reutilizan en lugar de crear
+     * nodos nuevos; una lista que se usa como cola deja de crear nodos una
+     * vez que se estabiliza. Un máximo de cero desactiva el reciclaje y libera
+     * los nodos guardados. Los nodos que la lista comparte con sus
+     * instantáneas nunca se reciclan.
+     * @param maximo el número máximo de nodos a guardar.
+     * @throws IllegalArgumentException si <tt>maximo</tt> es negativo.
+     */
+    public void reciclaNodos(int maximo) {
+      if(maximo < 0)
+        throw new IllegalArgumentException();
+      maximoReciclados = maximo;
+      while(numReciclados > maximo){
+        reciclados = reciclados.siguiente;
+        numReciclados--;
+      }
+    }
+
+    /* Regresa un nodo con el elemento, reciclado si hay alguno. */
+    private Nodo nuevoNodo(T elemento) {
+      if(reciclados == null)
+        return new Nodo(elemento);
+      Nodo n = reciclados;
+      reciclados = n.siguiente;
+      numReciclados--;
+      n.elemento = elemento;
+      n.siguiente = null;
+      return n;
+    }
+
+    /*
+     * Guarda un nodo que ya no está en la lista para reciclarlo, si hay
+     * espacio. Sólo debe llamarse con nodos que la lista no comparte.
+     */
+    private void recicla(Nodo n) {
+      if(numReciclados >= maximoReciclados)
+        return;
+      n.elemento = null;
+      n.anterior = null;
+      n.siguiente = reciclados;
+      reciclados = n;
+      numReciclados++;
+    }
+
+    /*
+     * Desliga el nodo recibido de la lista. Como no conocemos su índice,
+     * olvidamos el dedo.
+     */
+    private void desliga(Nodo n) {
+      if(n.anterior == null)
+        cabeza = n.siguiente;
+      else
+        n.anterior.siguiente = n.siguiente;
+      if(n.siguiente == null)
+        rabo = n.anterior;
+      else
+        n.siguiente.anterior = n.anterior;
+      longitud--;
+      dedo = null;
+      dispersionValida = false;
+      recicla(n);
+    }
+
+    /*
+     * Crea un nodo con el elemento recibido y lo liga entre los nodos
+     * anterior y siguiente, que deben ser consecutivos; cualquiera de los dos
+     * puede ser null si el nodo nuevo queda en un extremo. Regresa el nodo
+     * nuevo.
+     */
+    private Nodo liga(T elemento, Nodo anterior, Nodo siguiente) {
+      if(elemento == null)
+        throw new IllegalArgumentException();
+      Nodo n = nuevoNodo(elemento);
+      n.anterior = anterior;
+      n.siguiente = siguiente;
+      if(anterior == null)
+        cabeza = n;
+      else
+        anterior.siguiente = n;
+      if(siguiente == null)
+        rabo = n;
+      else
+        siguiente.anterior = n;
+      longitud++;
+      dedo = null;
+      dispersionValida = false;
+      return n;
+    }
+
     /**
      * Elimina el primer elemento de la lista y lo regresa.
      * @return el primer elemento de la lista antes de eliminarlo.
@@ -180,7 +632,9 @@ public class Lista<T> implements Iterable<T>{
     public T eliminaPrimero() {
       if(cabeza == null)
         throw new NoSuchElementException();
-      T elementoEliminado = cabeza.elemento;
+      separa();
+      Nodo eliminado = cabeza;
+      T elementoEliminado = eliminado.elemento;
       if(cabeza.siguiente == null){
         cabeza = null;
         rabo = null;
@@ -188,6 +642,13 @@ public class Lista<T> implements Iterable<T>{
         cabeza = cabeza.siguiente;
         cabeza.anterior = null;
       }
+      recicla(eliminado);
+      if(dedo != null)
+        dedo = dedo.indice == 0 ? null : new Dedo(dedo.nodo, dedo.indice - 1);
+      if(dispersionValida){
+        potencia *= INVERSO_31;
+        dispersion -= potencia * (30 + elementoEliminado.hashCode());
+      }
       longitud--;
       return elementoEliminado;
     }
@@ -200,7 +661,9 @@ public class Lista<T> implements Iterable<T>{
     public T eliminaUltimo() {
       if(cabeza == null)
         throw new NoSuchElementException();
-      T elementoEliminado = rabo.elemento;
+      separa();
+      Nodo eliminado = rabo;
+      T elementoEliminado = eliminado.elemento;
       if(cabeza.siguiente == null){
         cabeza = null;
         rabo = null;
@@ -208,6 +671,13 @@ public class Lista<T> implements Iterable<T>{
         rabo = rabo.anterior;
         rabo.siguiente = null;
       }
+      recicla(eliminado);
+      if(dedo != null && dedo.indice == longitud - 1)
+        dedo = null;
+      if(dispersionValida){
+        dispersion = (dispersion - elementoEliminado.hashCode()) * INVERSO_31;
+        potencia *= INVERSO_31;
+      }
       longitud--;
       return elementoEliminado;
     }
@@ -238,6 +708,17 @@ public class Lista<T> implements Iterable<T>{
       return l;
     }
 
+    /**
+     * Regresa una vista de la lista en orden inverso. A diferencia de {@link
+     * #reversa}, la vista no copia ningún elemento: recorre los nodos de la
+     * lista desde el rabo, así que crearla cuesta O(1) y siempre refleja el
+     * estado actual de la lista.
+     * @return una vista de la lista en orden inverso.
+     */
+    public VistaLista<T> vistaReversa() {
+      return new VistaReversa();
+    }
+
     /**
      * Regresa una copia de la lista. La copia tiene los mismos elementos que la
      * lista que manda llamar el método, en el mismo orden.
@@ -251,14 +732,177 @@ public class Lista<T> implements Iterable<T>{
       return l;
     }
 
+    /**
+     * Regresa una instantánea de la lista. La instantánea tiene los mismos
+     * elementos que la lista, en el mismo orden, y como una copia, modificar
+     * cualquiera de las dos no cambia a la otra. A diferencia de {@link
+     * #copia}, el método cuesta O(1): las dos listas comparten sus nodos
+     * hasta que una de ellas se modifica, y sólo entonces esa lista copia los
+     * nodos para quedarse con unos propios.
+     * @return una instantánea de la lista.
+     */
+    public Lista<T> instantanea() {
+      Lista<T> l = new Lista<>();
+      if(cabeza == null)
+        return l;
+      if(propietarios == null)
+        propietarios = new Propietarios();
+      propietarios.cuenta++;
+      l.cabeza = cabeza;
+      l.rabo = rabo;
+      l.longitud = longitud;
+      l.propietarios = propietarios;
+      l.dispersion = dispersion;
+      l.potencia = potencia;
+      l.dispersionValida = dispersionValida;
+      return l;
+    }
+
+    /*
+     * Se llama antes de modificar los nodos de la lista. Si la lista comparte
+     * sus nodos con otras, copia la cadena de nodos para quedarse con una
+     * propia; la última lista en separarse se queda con los nodos originales.
+     */
+    private void separa() {
+      if(propietarios == null)
+        return;
+      if(--propietarios.cuenta > 0){
+        Nodo anterior = null;
+        for(Nodo n = cabeza; n != null; n = n.siguiente){
+          Nodo copia = new Nodo(n.elemento);
+          copia.anterior = anterior;
+          if(anterior == null)
+            cabeza = copia;
+          else
+            anterior.siguiente = copia;
+          anterior = copia;
+        }
+        rabo = anterior;
+        dedo = null;
+      }
+      propietarios = null;
+    }
+
+    /**
+     * Agrega al final de la lista los elementos de la lista recibida, que se
+     * queda vacía. Los nodos de la lista recibida se ligan directamente, por
+     * lo que el método cuesta O(1) salvo que alguna de las listas comparta
+     * nodos con una {@link #instantanea}, en cuyo caso primero se copian.
+     * @param lista la lista cuyos elementos se agregarán.
+     * @throws IllegalArgumentException si <code>lista</code> es la misma lista
+     *         que manda llamar el método.
+     */
+    public void concatena(Lista<T> lista) {
+      if(lista == this)
+        throw new IllegalArgumentException();
+      if(lista.cabeza == null)
+        return;
+      separa();
+      lista.separa();
+      if(cabeza == null){
+        cabeza = lista.cabeza;
+      }else{
+        rabo.siguiente = lista.cabeza;
+        lista.cabeza.anterior = rabo;
+      }
+      rabo = lista.rabo;
+      longitud += lista.longitud;
+      dispersionValida = false;
+      /* No usamos limpia(): reciclaría los nodos, que ahora son nuestros. */
+      lista.cabeza = null;
+      lista.rabo = null;
+      lista.longitud = 0;
+      lista.dedo = null;
+      lista.dispersionValida = false;
+    }
+
+    /**
+     * Agrega al final de la lista los elementos recibidos, en orden. Los
+     * nodos se crean y ligan en una sola pasada y después se unen a la lista,
+     * así que si algún elemento es <code>null</code> la lista no se modifica.
+     * @param elementos los elementos a agregar.
+     * @throws IllegalArgumentException si alguno de los elementos es
+     *         <code>null</code>.
+     */
+    public void agregaTodos(Iterable<? extends T> elementos) {
+      Nodo primero = null;
+      Nodo ultimo = null;
+      int agregados = 0;
+      for(T elemento : elementos){
+        if(elemento == null){
+          while(primero != null){
+            Nodo siguiente = primero.siguiente;
+            recicla(primero);
+            primero = siguiente;
+          }
+          throw new IllegalArgumentException();
+        }
+        Nodo n = nuevoNodo(elemento);
+        if(primero == null){
+          primero = n;
+        }else{
+          ultimo.siguiente = n;
+          n.anterior = ultimo;
+        }
+        ultimo = n;
+        agregados++;
+      }
+      if(primero == null)
+        return;
+      separa();
+      if(cabeza == null){
+        cabeza = primero;
+      }else{
+        rabo.siguiente = primero;
+        primero.anterior = rabo;
+      }
+      rabo = ultimo;
+      longitud += agregados;
+      dispersionValida = false;
+    }
+
+    /**
+     * Regresa una vista de los elementos de la lista con índices en el
+     * intervalo [<tt>desde</tt>, <tt>hasta</tt>). La vista comparte los nodos
+     * de la lista, así que no se copia ningún elemento; es válida mientras la
+     * lista no sea modificada.
+     * @param desde el índice del primer elemento de la vista.
+     * @param hasta el índice siguiente al último elemento de la vista.
+     * @return una vista de los elementos en el intervalo.
+     * @throws ExcepcionIndiceInvalido si <tt>desde</tt> es negativo,
+     *         <tt>hasta</tt> es mayor que la longitud de la lista, o
+     *         <tt>desde</tt> es mayor que <tt>hasta</tt>.
+     */
+    public VistaLista<T> sublista(int desde, int hasta) {
+      if(desde < 0 || hasta > longitud || desde > hasta)
+        throw new ExcepcionIndiceInvalido();
+      if(desde == hasta)
+        return new SubLista(null, null, 0);
+      Nodo primero = nodoEn(desde);
+      return new SubLista(primero, nodoEn(hasta - 1), hasta - desde);
+    }
+
     /**
      * Limpia la lista de elementos. El llamar este método es equivalente a
      * eliminar todos los elementos de la lista.
      */
     public void limpia() {
+      if(propietarios != null){
+        propietarios.cuenta--;
+      }else{
+        Nodo n = cabeza;
+        while(n != null && numReciclados < maximoReciclados){
+          Nodo siguiente = n.siguiente;
+          recicla(n);
+          n = siguiente;
+        }
+      }
+      propietarios = null;
       cabeza = null;
       rabo = null;
       longitud = 0;
+      dedo = null;
+      dispersionValida = false;
     }
 
     /**
@@ -293,13 +937,39 @@ public class Lista<T> implements Iterable<T>{
     public T get(int i) {
       if(i < 0 || i >= longitud )
         throw new ExcepcionIndiceInvalido();
-      int contador = 0;
-      for(Nodo n = cabeza; n != null; n = n.siguiente){
-        if(contador == i)
-          return n.elemento;
-        contador++;
+      return nodoEn(i).elemento;
+    }
+
+    /*
+     * Regresa el nodo en el índice recibido, que debe ser válido. El recorrido
+     * empieza en la cabeza, el rabo o el dedo, el que esté más cerca, y el
+     * dedo se queda en el nodo encontrado; así los recorridos secuenciales por
+     * índice cuestan O(1) por elemento.
+     */
+    private Nodo nodoEn(int i) {
+      Nodo n = cabeza;
+      int indice = 0;
+      if(longitud - 1 - i < i){
+        n = rabo;
+        indice = longitud - 1;
+      }
+      /* Leemos el dedo una sola vez; otro hilo lector puede cambiarlo. */
+      Dedo d = dedo;
+      if(d != null && Math.abs(d.indice - i) < Math.abs(indice - i)){
+        n = d.nodo;
+        indice = d.indice;
       }
-      return null;
+      while(indice < i){
+        n = n.siguiente;
+        indice++;
+      }
+      while(indice > i){
+        n = n.anterior;
+        indice--;
+      }
+      if(d == null || d.nodo != n)
+        dedo = new Dedo(n, i);
+      return n;
     }
 
     /**
@@ -357,6 +1027,35 @@ public class Lista<T> implements Iterable<T>{
         return true;
     }
 
+    /**
+     * Regresa un código de dispersión para la lista, consistente con {@link
+     * #equals}; es el mismo que calcula {@link java.util.List#hashCode}. La
+     * primera llamada recorre la lista, y después el código se mantiene al
+     * agregar o eliminar elementos en los extremos; las demás modificaciones
+     * hacen que se vuelva a calcular en la siguiente llamada.
+     *
+     * <p>Como las llaves de un diccionario, los elementos no deben cambiar
+     * mientras estén en la lista. La lista no se entera cuando se modifica
+     * uno de sus elementos, como el nombre de un {@link Estudiante}, así que
+     * el código guardado deja de corresponder a los elementos y la lista
+     * puede ser igual a otra con un código de dispersión distinto. Para
+     * modificar un elemento hay que sacarlo de la lista y volverlo a
+     * agregar.</p>
+     * @return un código de dispersión para la lista.
+     */
+    @Override public int hashCode() {
+      if(!dispersionValida){
+        dispersion = 1;
+        potencia = 1;
+        for(Nodo n = cabeza; n != null; n = n.siguiente){
+          dispersion = 31 * dispersion + n.elemento.hashCode();
+          potencia *= 31;
+        }
+        dispersionValida = true;
+      }
+      return dispersion;
+    }
+
     /**
      * Regresa un iterador para recorrer la lista en una dirección.
      * @return un iterador para recorrer la lista en una dirección.
@@ -366,10 +1065,38 @@ public class Lista<T> implements Iterable<T>{
     }
 
     /**
-     * Regresa un iterador para recorrer la lista en ambas direcciones.
+     * Regresa un particionador para recorrer la lista en streams. El
+     * particionador conoce el número exacto de elementos, y se parte en
+     * mitades balanceadas. La lista no debe modificarse mientras se recorre.
+     * @return un particionador para recorrer la lista.
+     */
+    @Override public Spliterator<T> spliterator() {
+        return new Particionador(cabeza, longitud);
+    }
+
+    /**
+     * Regresa un stream secuencial con los elementos de la lista.
+     * @return un stream secuencial con los elementos de la lista.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Regresa un stream paralelo con los elementos de la lista.
+     * @return un stream paralelo con los elementos de la lista.
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Regresa un iterador para recorrer la lista en ambas direcciones. El
+     * iterador puede además eliminar y agregar elementos en su posición en
+     * tiempo constante.
      * @return un iterador para recorrer la lista en ambas direcciones.
      */
-    public IteradorLista<T> iteradorLista() {
+    public IteradorListaModificable<T> iteradorLista() {
         return new Iterador();
     }
 
@@ -383,52 +1110,351 @@ public class Lista<T> implements Iterable<T>{
      */
     public static <T extends Comparable<T>>
     Lista<T> mergeSort(Lista<T> lista) {
-      if(lista.longitud < 2)
-        return lista.copia();
-      Lista<T> mitadIzq = new Lista<T>();
-      Lista<T> mitadDer = new Lista<T>();
-      int mitad = lista.longitud / 2;
-      int contador = 0;
-      for(T e : lista) {
-        if( contador++ < mitad )
-          mitadIzq.agregaFinal(e);
+      Lista<T> copia = lista.copia();
+      copia.ordena();
+      return copia;
+    }
+
+    /**
+     * Regresa una copia de la lista recibida, pero ordenada con el comparador
+     * recibido. Los elementos no necesitan implementar la interfaz {@link
+     * Comparable}; por ejemplo, una lista de estudiantes puede ordenarse por
+     * cualquiera de sus campos. Ver {@link #ordena(Comparator)}.
+     * @param <T> tipo del que puede ser la lista.
+     * @param lista la lista que se ordenará.
+     * @param comparador el comparador para ordenar los elementos.
+     * @return una copia de la lista recibida, pero ordenada.
+     */
+    public static <T> Lista<T> mergeSort(Lista<T> lista,
+                                         Comparator<? super T> comparador) {
+      Lista<T> copia = lista.copia();
+      copia.ordena(comparador);
+      return copia;
+    }
+
+    /**
+     * Ordena la lista usando el orden natural de sus elementos, que tienen que
+     * implementar la interfaz {@link Comparable}. Ver {@link
+     * #ordena(Comparator)}.
+     * @throws ClassCastException si los elementos no son comparables entre
+     *         sí.
+     */
+    public void ordena() {
+      ordena(ordenNatural());
+    }
+
+    /**
+     * Ordena la lista usando el comparador recibido. El ordenamiento es un
+     * MergeSort natural de abajo hacia arriba: primero se invierten las
+     * corridas estrictamente descendentes, y después cada pasada mezcla por
+     * pares las corridas ya ordenadas de la lista, reacomodando los nodos
+     * existentes, hasta que queda una sola corrida. Cuando una corrida gana
+     * varias comparaciones seguidas, la mezcla <em>galopa</em>: busca con
+     * saltos exponenciales hasta dónde sigue ganando y liga todo el tramo de
+     * una vez. No crea nodos ni usa recursión, es estable, y si la lista ya
+     * está ordenada, o en orden inverso, cuesta O(n).
+     * @param comparador el comparador para ordenar los elementos.
+     */
+    public void ordena(Comparator<? super T> comparador) {
+      dedo = null;
+      if(longitud < 2)
+        return;
+      separa();
+      dispersionValida = false;
+      cabeza = ordenaCadena(cabeza, comparador);
+      reenlaza();
+    }
+
+    /**
+     * Ordena la lista en paralelo usando el orden natural de sus elementos,
+     * que tienen que implementar la interfaz {@link Comparable}. Ver {@link
+     * #ordenaParalelo(Comparator, ForkJoinPool, int)}.
+     * @throws ClassCastException si los elementos no son comparables entre
+     *         sí.
+     */
+    public void ordenaParalelo() {
+      ordenaParalelo(ordenNatural());
+    }
+
+    /**
+     * Ordena la lista en paralelo usando el comparador recibido, en el {@link
+     * ForkJoinPool#commonPool} y con el umbral {@link #UMBRAL_PARALELO}. Ver
+     * {@link #ordenaParalelo(Comparator, ForkJoinPool, int)}.
+     * @param comparador el comparador para ordenar los elementos.
+     */
+    public void ordenaParalelo(Comparator<? super T> comparador) {
+      ordenaParalelo(comparador, ForkJoinPool.commonPool(), UMBRAL_PARALELO);
+    }
+
+    /**
+     * Ordena la lista en paralelo usando el comparador recibido. La cadena de
+     * nodos se parte a la mitad recursivamente; los segmentos de a lo más
+     * <tt>umbral</tt> elementos se ordenan con el mismo algoritmo que {@link
+     * #ordena(Comparator)}, y las mitades se mezclan conforme terminan. El
+     * resultado es idéntico al de {@link #ordena(Comparator)}, porque las
+     * mezclas también son estables.
+     * @param comparador el comparador para ordenar los elementos.
+     * @param alberca la alberca de hilos donde se ordenará la lista.
+     * @param umbral el número de elementos por debajo del cual un segmento se
+     *        ordena secuencialmente.
+     * @throws IllegalArgumentException si <tt>umbral</tt> es menor que uno.
+     */
+    public void ordenaParalelo(Comparator<? super T> comparador,
+                               ForkJoinPool alberca, int umbral) {
+      if(umbral < 1)
+        throw new IllegalArgumentException();
+      dedo = null;
+      if(longitud < 2)
+        return;
+      separa();
+      dispersionValida = false;
+      cabeza = alberca.invoke(new TareaOrdena(cabeza, longitud, comparador, umbral));
+      reenlaza();
+    }
+
+    /* Regresa un comparador con el orden natural de los elementos. */
+    @SuppressWarnings("unchecked") private Comparator<T> ordenNatural() {
+      return (a, b) -> ((Comparable<? super T>)a).compareTo(b);
+    }
+
+    /*
+     * Recorre la lista desde la cabeza arreglando las referencias anterior y
+     * el rabo, después de que los algoritmos de ordenamiento sólo arreglaron
+     * las referencias siguiente.
+     */
+    private void reenlaza() {
+      Nodo anterior = null;
+      for(Nodo n = cabeza; n != null; n = n.siguiente){
+        n.anterior = anterior;
+        anterior = n;
+      }
+      rabo = anterior;
+    }
+
+    /*
+     * Ordena la cadena de nodos que empieza en el nodo recibido, usando sólo
+     * las referencias siguiente, y regresa su nuevo primer nodo. Después de
+     * invertir las corridas descendentes, cada pasada mezcla por pares las
+     * corridas ordenadas de la cadena.
+     */
+    private Nodo ordenaCadena(Nodo primero, Comparator<? super T> comparador) {
+      primero = invierteDescendentes(primero, comparador);
+      int corridas;
+      do{
+        Nodo n = primero;
+        Nodo cola = null;
+        corridas = 0;
+        while(n != null){
+          Nodo a = n;
+          n = corteCorrida(a, comparador);
+          Nodo b = n;
+          if(b != null)
+            n = corteCorrida(b, comparador);
+          if(cola == null)
+            primero = menor(a, b, comparador);
+          cola = mezcla(cola, a, b, comparador);
+          corridas++;
+        }
+      }while(corridas > 1);
+      return primero;
+    }
+
+    /*
+     * Invierte en su lugar las corridas estrictamente descendentes de la
+     * cadena que empieza en el nodo recibido, y regresa el nuevo primer nodo.
+     * Como las corridas son estrictas, no hay elementos iguales que cambien
+     * de orden.
+     */
+    private Nodo invierteDescendentes(Nodo primero,
+                                      Comparator<? super T> comparador) {
+      Nodo nuevoPrimero = null;
+      Nodo cola = null;
+      Nodo n = primero;
+      while(n != null){
+        Nodo inicio;
+        Nodo fin;
+        if(n.siguiente != null &&
+           comparador.compare(n.elemento, n.siguiente.elemento) > 0){
+          fin = n;
+          inicio = null;
+          do{
+            Nodo siguiente = n.siguiente;
+            n.siguiente = inicio;
+            inicio = n;
+            n = siguiente;
+          }while(n != null && comparador.compare(inicio.elemento, n.elemento) > 0);
+        }else{
+          inicio = n;
+          fin = n;
+          while(fin.siguiente != null &&
+                comparador.compare(fin.elemento, fin.siguiente.elemento) <= 0)
+            fin = fin.siguiente;
+          n = fin.siguiente;
+        }
+        if(cola == null)
+          nuevoPrimero = inicio;
         else
-          mitadDer.agregaFinal(e);
+          cola.siguiente = inicio;
+        cola = fin;
       }
-      Lista<T> izquierda = mergeSort( mitadIzq );
-      Lista<T> derecha = mergeSort( mitadDer );
-      return merge( izquierda, derecha );
+      cola.siguiente = null;
+      return nuevoPrimero;
+    }
+
+    /*
+     * Corta la corrida ordenada que empieza en el nodo recibido y regresa el
+     * nodo que sigue de ella, o null si la corrida llega al final.
+     */
+    private Nodo corteCorrida(Nodo n, Comparator<? super T> comparador) {
+      while(n.siguiente != null &&
+            comparador.compare(n.elemento, n.siguiente.elemento) <= 0)
+        n = n.siguiente;
+      Nodo siguiente = n.siguiente;
+      n.siguiente = null;
+      return siguiente;
+    }
+
+    /*
+     * Regresa el nodo con que empieza la mezcla de las cadenas a y b (b puede
+     * ser null).
+     */
+    private Nodo menor(Nodo a, Nodo b, Comparator<? super T> comparador) {
+      if(b == null || comparador.compare(a.elemento, b.elemento) <= 0)
+        return a;
+      return b;
     }
 
     /*
-     * Une de manera ordenada dos listas.
-     * Return: una lista ordenada que contiene los elementos de las 2 listas
-     * que recive como parametros.
-     * Param: Dos listas a ordenar y unir.
-     */
-    private static <T extends Comparable<T>>
-    Lista<T> merge(Lista<T> izquierda, Lista<T> derecha) {
-      Lista<T> lista = new Lista<>();
-      Lista<T>.Nodo nodoIzq = izquierda.cabeza;
-      Lista<T>.Nodo nodoDer = derecha.cabeza;
-      while( nodoIzq != null && nodoDer != null ) {
-        if( nodoIzq.elemento.compareTo(nodoDer.elemento) <= 0 ) {
-          lista.agregaFinal( nodoIzq.elemento );
-          nodoIzq = nodoIzq.siguiente;
+     * Mezcla las cadenas que empiezan en a y b (b puede ser null) y las liga
+     * después de la cola recibida, que puede ser null. Regresa la nueva cola.
+     */
+    private Nodo mezcla(Nodo cola, Nodo a, Nodo b,
+                        Comparator<? super T> comparador) {
+      int ganadasA = 0;
+      int ganadasB = 0;
+      while(a != null && b != null){
+        if(comparador.compare(a.elemento, b.elemento) <= 0){
+          cola = engancha(cola, a);
+          if(++ganadasA >= GALOPE){
+            cola = ultimoQueCumple(a, b.elemento, true, comparador);
+            ganadasA = 0;
+          }
+          a = cola.siguiente;
+          ganadasB = 0;
         }else{
-          lista.agregaFinal( nodoDer.elemento );
-          nodoDer = nodoDer.siguiente;
+          cola = engancha(cola, b);
+          if(++ganadasB >= GALOPE){
+            cola = ultimoQueCumple(b, a.elemento, false, comparador);
+            ganadasB = 0;
+          }
+          b = cola.siguiente;
+          ganadasA = 0;
         }
       }
-      while( nodoIzq != null ) {
-        lista.agregaFinal( nodoIzq.elemento );
-        nodoIzq = nodoIzq.siguiente;
+      Nodo resto = a != null ? a : b;
+      if(resto != null){
+        cola = engancha(cola, resto);
+        while(cola.siguiente != null)
+          cola = cola.siguiente;
       }
-      while( nodoDer != null ) {
-        lista.agregaFinal( nodoDer.elemento );
-        nodoDer = nodoDer.siguiente;
+      return cola;
+    }
+
+    /*
+     * Galopa sobre la corrida que empieza en n, cuyo primer nodo es menor que
+     * el pivote (o igual, si incluyeIguales). Avanza con saltos de 1, 2, 4,
+     * ... nodos mientras los nodos sigan cumpliendo, y después busca
+     * binariamente en el último salto. Regresa el último nodo de la corrida
+     * que cumple; la búsqueda hace O(log k) comparaciones para un tramo de k
+     * nodos.
+     */
+    private Nodo ultimoQueCumple(Nodo n, T pivote, boolean incluyeIguales,
+                                 Comparator<? super T> comparador) {
+      int salto = 1;
+      while(true){
+        Nodo m = n;
+        int avance = 0;
+        while(avance < salto && m.siguiente != null){
+          m = m.siguiente;
+          avance++;
+        }
+        if(avance == 0)
+          return n;
+        if(!cumple(m, pivote, incluyeIguales, comparador)){
+          /* El resultado está entre n y m, sin incluir a m. */
+          int restantes = avance - 1;
+          while(restantes > 0){
+            int mitad = (restantes + 1) / 2;
+            m = n;
+            for(int i = 0; i < mitad; i++)
+              m = m.siguiente;
+            if(cumple(m, pivote, incluyeIguales, comparador)){
+              n = m;
+              restantes -= mitad;
+            }else{
+              restantes = mitad - 1;
+            }
+          }
+          return n;
+        }
+        n = m;
+        salto *= 2;
       }
-      return lista;
+    }
+
+    /* Nos dice si el elemento del nodo va antes que el pivote en la mezcla. */
+    private boolean cumple(Nodo n, T pivote, boolean incluyeIguales,
+                           Comparator<? super T> comparador) {
+      int c = comparador.compare(n.elemento, pivote);
+      return incluyeIguales ? c <= 0 : c < 0;
+    }
+
+    /* Liga el nodo después de la cola, si hay, y lo regresa. */
+    private Nodo engancha(Nodo cola, Nodo n) {
+      if(cola != null)
+        cola.siguiente = n;
+      return n;
+    }
+
+    /*
+     * Tarea para ordenar en paralelo la cadena de nodos que empieza en primero
+     * y tiene longitud nodos. Regresa el primer nodo de la cadena ordenada.
+     */
+    private class TareaOrdena extends RecursiveTask<Nodo> {
+        private static final long serialVersionUID = 1L;
+
+        public Nodo primero;
+        public int longitud;
+        public Comparator<? super T> comparador;
+        public int umbral;
+
+        public TareaOrdena(Nodo primero, int longitud,
+                           Comparator<? super T> comparador, int umbral) {
+          this.primero = primero;
+          this.longitud = longitud;
+          this.comparador = comparador;
+          this.umbral = umbral;
+        }
+
+        @Override protected Nodo compute() {
+          if(longitud <= umbral)
+            return ordenaCadena(primero, comparador);
+          int mitad = longitud / 2;
+          Nodo n = primero;
+          for(int i = 1; i < mitad; i++)
+            n = n.siguiente;
+          Nodo segunda = n.siguiente;
+          n.siguiente = null;
+          TareaOrdena izquierda = new TareaOrdena(primero, mitad,
+                                                  comparador, umbral);
+          izquierda.fork();
+          Nodo b = new TareaOrdena(segunda, longitud - mitad,
+                                   comparador, umbral).compute();
+          Nodo a = izquierda.join();
+          Nodo cabeza = menor(a, b, comparador);
+          mezcla(null, a, b, comparador);
+          return cabeza;
+        }
     }
 
     /**
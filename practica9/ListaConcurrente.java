@@ -0,0 +1,226 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Clase genérica para listas concurrentes.</p>
+ *
+ * <p>Las listas concurrentes permiten que varios hilos agreguen elementos al
+ * final y eliminen elementos del inicio al mismo tiempo, sin candados: la
+ * lista es una cola de Michael y Scott, donde cada operación se completa con
+ * operaciones atómicas <em>compare-and-set</em> sobre las referencias
+ * <code>siguiente</code> de los nodos y sobre la cabeza y el rabo.</p>
+ *
+ * <p>Los iteradores son <em>débilmente consistentes</em>: nunca lanzan
+ * excepciones por modificaciones concurrentes, regresan cada elemento a lo más
+ * una vez, y ven todos los elementos que estaban en la lista cuando se
+ * crearon y no han sido eliminados; pueden o no ver los que se agreguen
+ * después. Las listas no aceptan a <code>null</code> como elemento.</p>
+ */
+public class ListaConcurrente<T> implements Iterable<T> {
+
+    /* Clase Nodo privada para uso interno de la clase ListaConcurrente. */
+    private static class Nodo<T> {
+      /* El elemento; null en el nodo centinela y en los nodos eliminados. */
+      public volatile T elemento;
+      public volatile Nodo<T> siguiente;
+
+      public Nodo(T elemento) {
+        this.elemento = elemento;
+      }
+    }
+
+    /* Actualizador atómico de la referencia siguiente de los nodos. */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final AtomicReferenceFieldUpdater<Nodo, Nodo> SIGUIENTE =
+      AtomicReferenceFieldUpdater.newUpdater(Nodo.class, Nodo.class, "siguiente");
+
+    /* Clase Iterador privada para iteradores. */
+    private class Iterador implements Iterator<T> {
+        /* Nodo con el siguiente elemento, o null si no hay. */
+        public Nodo<T> siguiente;
+        /* El siguiente elemento, leído cuando avanzamos. */
+        public T elemento;
+
+        public Iterador() {
+          avanza(cabeza.get());
+        }
+
+        /* Avanza al primer nodo no eliminado después del recibido. */
+        private void avanza(Nodo<T> n) {
+          for(n = n.siguiente; n != null; n = n.siguiente){
+            T e = n.elemento;
+            if(e != null){
+              siguiente = n;
+              elemento = e;
+              return;
+            }
+          }
+          siguiente = null;
+          elemento = null;
+        }
+
+        /* Nos dice si hay un elemento siguiente. */
+        @Override public boolean hasNext() {
+          return siguiente != null;
+        }
+
+        /* Nos da el elemento siguiente. */
+        @Override public T next() {
+          if(siguiente == null)
+            throw new NoSuchElementException();
+          T e = elemento;
+          avanza(siguiente);
+          return e;
+        }
+    }
+
+    /* Nodo centinela antes del primer elemento de la lista. */
+    private final AtomicReference<Nodo<T>> cabeza;
+    /* Último nodo de la lista, o uno que está a punto de dejar de serlo. */
+    private final AtomicReference<Nodo<T>> rabo;
+    /* Número de elementos en la lista. */
+    private final LongAdder longitud;
+
+    /**
+     * Constructor único.
+     */
+    public ListaConcurrente() {
+      Nodo<T> centinela = new Nodo<>(null);
+      cabeza = new AtomicReference<>(centinela);
+      rabo = new AtomicReference<>(centinela);
+      longitud = new LongAdder();
+    }
+
+    /* Liga n como siguiente de t si el siguiente de t es null. */
+    @SuppressWarnings("unchecked")
+    private static <T> boolean ligaSiguiente(Nodo<T> t, Nodo<T> n) {
+      return SIGUIENTE.compareAndSet(t, null, n);
+    }
+
+    /**
+     * Regresa la longitud de la lista. Si hay hilos modificando la lista, el
+     * valor puede no incluir las operaciones que estén en curso.
+     * @return la longitud de la lista, el número de elementos que contiene.
+     */
+    public int getLongitud() {
+      return Math.max(0, longitud.intValue());
+    }
+
+    /**
+     * Nos dice si la lista es vacía.
+     * @return <code>true</code> si la lista es vacía, <code>false</code> en
+     *         otro caso.
+     */
+    public boolean esVacia() {
+      return cabeza.get().siguiente == null;
+    }
+
+    /**
+     * Agrega un elemento al final de la lista. El método no usa candados y
+     * puede llamarse desde varios hilos al mismo tiempo.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public void agregaFinal(T elemento) {
+      if(elemento == null)
+        throw new IllegalArgumentException();
+      Nodo<T> n = new Nodo<>(elemento);
+      while(true){
+        Nodo<T> t = rabo.get();
+        Nodo<T> s = t.siguiente;
+        if(t != rabo.get())
+          continue;
+        if(s == null){
+          if(ligaSiguiente(t, n)){
+            rabo.compareAndSet(t, n);
+            break;
+          }
+        }else{
+          /* Otro hilo ligó un nodo pero no ha movido el rabo; lo ayudamos. */
+          rabo.compareAndSet(t, s);
+        }
+      }
+      longitud.increment();
+    }
+
+    /**
+     * Elimina el primer elemento de la lista y lo regresa. El método no usa
+     * candados y puede llamarse desde varios hilos al mismo tiempo.
+     * @return el primer elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T eliminaPrimero() {
+      while(true){
+        Nodo<T> h = cabeza.get();
+        Nodo<T> t = rabo.get();
+        Nodo<T> s = h.siguiente;
+        if(h != cabeza.get())
+          continue;
+        if(s == null)
+          throw new NoSuchElementException();
+        if(h == t){
+          rabo.compareAndSet(t, s);
+          continue;
+        }
+        T elemento = s.elemento;
+        if(cabeza.compareAndSet(h, s)){
+          /* s es el nuevo centinela. */
+          s.elemento = null;
+          longitud.decrement();
+          return elemento;
+        }
+      }
+    }
+
+    /**
+     * Regresa el primer elemento de la lista.
+     * @return el primer elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T getPrimero() {
+      Iterator<T> iterador = iterator();
+      if(!iterador.hasNext())
+        throw new NoSuchElementException();
+      return iterador.next();
+    }
+
+    /**
+     * Nos dice si un elemento está en la lista. El recorrido es débilmente
+     * consistente, como el de los iteradores.
+     * @param elemento el elemento que queremos saber si está en la lista.
+     * @return <tt>true</tt> si <tt>elemento</tt> está en la lista,
+     *         <tt>false</tt> en otro caso.
+     */
+    public boolean contiene(T elemento) {
+      for(T e : this)
+        if(e.equals(elemento))
+          return true;
+      return false;
+    }
+
+    /**
+     * Regresa una representación en cadena de la lista.
+     * @return una representación en cadena de la lista.
+     */
+    @Override public String toString() {
+      StringBuilder sb = new StringBuilder("[");
+      for(T e : this){
+        if(sb.length() > 1)
+          sb.append(", ");
+        sb.append(e);
+      }
+      return sb.append("]").toString();
+    }
+
+    /**
+     * Regresa un iterador débilmente consistente para recorrer la lista.
+     * @return un iterador para recorrer la lista.
+     */
+    @Override public Iterator<T> iterator() {
+        return new Iterador();
+    }
+}
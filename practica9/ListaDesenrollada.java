@@ -0,0 +1,534 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Clase genérica para listas desenrolladas.</p>
+ *
+ * <p>Una lista desenrollada es una lista doblemente ligada de bloques, donde
+ * cada bloque guarda hasta {@link #TAMANO_BLOQUE} elementos en un arreglo. Con
+ * esto cada elemento ya no necesita su propio nodo, la lista ocupa menos
+ * memoria y recorrerla es más rápido, porque los elementos de un mismo bloque
+ * están juntos en memoria.</p>
+ *
+ * <p>Las listas desenrolladas tienen los mismos métodos que {@link Lista}, así
+ * que pueden usarse en su lugar. Implementan la interfaz {@link Iterable}, y
+ * por lo tanto se pueden recorrer usando la estructura de control
+ * <em>for-each</em>. Las listas no aceptan a <code>null</code> como
+ * elemento.</p>
+ */
+public class ListaDesenrollada<T> implements Iterable<T> {
+
+    /** Número máximo de elementos en cada bloque. */
+    public static final int TAMANO_BLOQUE = 64;
+
+    /* Clase Bloque privada para uso interno de la clase ListaDesenrollada. */
+    private static class Bloque {
+      public Object[] elementos;
+      public int cuenta;
+      public Bloque anterior;
+      public Bloque siguiente;
+
+      public Bloque() {
+        elementos = new Object[TAMANO_BLOQUE];
+      }
+
+      /* Nos dice si el bloque está lleno. */
+      public boolean lleno() {
+        return cuenta == elementos.length;
+      }
+    }
+
+    /* Clase Iterador privada para iteradores. */
+    private class Iterador implements IteradorLista<T> {
+        /* Bloque del elemento siguiente; null si estamos al final. */
+        public Bloque bloque;
+        /* Índice del elemento siguiente dentro de su bloque. */
+        public int indice;
+        /*
+         * 1 si el último elemento regresado vino de next, -1 si vino de
+         * previous, y 0 si no hay uno que se pueda eliminar.
+         */
+        public int ultimo;
+
+        public Iterador() {
+          start();
+        }
+
+        /* Nos dice si hay un elemento siguiente. */
+        @Override public boolean hasNext() {
+          return bloque != null;
+        }
+
+        /* Nos da el elemento siguiente. */
+        @Override public T next() {
+          if(bloque == null)
+            throw new NoSuchElementException();
+          T e = elemento(bloque, indice++);
+          ultimo = 1;
+          if(indice == bloque.cuenta){
+            bloque = bloque.siguiente;
+            indice = 0;
+          }
+          return e;
+        }
+
+        /* Nos dice si hay un elemento anterior. */
+        @Override public boolean hasPrevious() {
+          if(bloque == null)
+            return rabo != null;
+          return indice > 0 || bloque.anterior != null;
+        }
+
+        /* Nos da el elemento anterior. */
+        @Override public T previous() {
+          if(!hasPrevious())
+            throw new NoSuchElementException();
+          if(bloque == null){
+            bloque = rabo;
+            indice = rabo.cuenta;
+          }else if(indice == 0){
+            bloque = bloque.anterior;
+            indice = bloque.cuenta;
+          }
+          ultimo = -1;
+          return elemento(bloque, --indice);
+        }
+
+        /* Mueve el iterador al inicio de la lista. */
+        @Override public void start() {
+          bloque = cabeza;
+          indice = 0;
+          ultimo = 0;
+        }
+
+        /* Mueve el iterador al final de la lista. */
+        @Override public void end() {
+          bloque = null;
+          indice = 0;
+          ultimo = 0;
+        }
+
+        /* Elimina el último elemento regresado por next o previous. */
+        @Override public void remove() {
+          if(ultimo == 0)
+            throw new IllegalStateException();
+          Bloque b = bloque;
+          int i = indice;
+          if(ultimo == 1){
+            if(b == null){
+              b = rabo;
+              i = b.cuenta;
+            }else if(i == 0){
+              b = b.anterior;
+              i = b.cuenta;
+            }
+            i--;
+          }
+          eliminaEn(b, i);
+          /*
+           * El siguiente elemento quedó en la posición i de b, salvo que b se
+           * haya vaciado o i fuera su última posición; un bloque desligado
+           * conserva su referencia al siguiente.
+           */
+          if(i < b.cuenta){
+            bloque = b;
+            indice = i;
+          }else{
+            bloque = b.siguiente;
+            indice = 0;
+          }
+          ultimo = 0;
+        }
+    }
+
+    /* Primer bloque de la lista. */
+    private Bloque cabeza;
+    /* Último bloque de la lista. */
+    private Bloque rabo;
+    /* Número de elementos en la lista. */
+    private int longitud;
+
+    /* Regresa el elemento en la posición recibida del bloque. */
+    @SuppressWarnings("unchecked") private static <T> T elemento(Bloque b, int i) {
+      return (T)b.elementos[i];
+    }
+
+    /**
+     * Regresa la longitud de la lista.
+     * @return la longitud de la lista, el número de elementos que contiene.
+     */
+    public int getLongitud() {
+      return longitud;
+    }
+
+    /**
+     * Nos dice si la lista es vacía.
+     * @return <code>true</code> si la lista es vacía, <code>false</code> en
+     *         otro caso.
+     */
+    public boolean esVacia() {
+      return cabeza == null;
+    }
+
+    /**
+     * Agrega un elemento al final de la lista. Si el último bloque está lleno,
+     * se agrega un bloque nuevo.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public void agregaFinal(T elemento) {
+      if(elemento == null)
+        throw new IllegalArgumentException();
+      if(rabo == null){
+        cabeza = new Bloque();
+        rabo = cabeza;
+      }else if(rabo.lleno()){
+        rabo.siguiente = new Bloque();
+        rabo.siguiente.anterior = rabo;
+        rabo = rabo.siguiente;
+      }
+      rabo.elementos[rabo.cuenta++] = elemento;
+      longitud++;
+    }
+
+    /**
+     * Agrega un elemento al inicio de la lista. Si el primer bloque está lleno,
+     * se agrega un bloque nuevo.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public void agregaInicio(T elemento) {
+      if(elemento == null)
+        throw new IllegalArgumentException();
+      if(cabeza == null){
+        cabeza = new Bloque();
+        rabo = cabeza;
+      }else if(cabeza.lleno()){
+        cabeza.anterior = new Bloque();
+        cabeza.anterior.siguiente = cabeza;
+        cabeza = cabeza.anterior;
+      }
+      System.arraycopy(cabeza.elementos, 0, cabeza.elementos, 1, cabeza.cuenta);
+      cabeza.elementos[0] = elemento;
+      cabeza.cuenta++;
+      longitud++;
+    }
+
+    /**
+     * Elimina un elemento de la lista. Si el elemento no está contenido en la
+     * lista, el método no la modifica.
+     * @param elemento el elemento a eliminar.
+     */
+    public void elimina(T elemento) {
+      for(Bloque b = cabeza; b != null; b = b.siguiente){
+        for(int i = 0; i < b.cuenta; i++){
+          if(b.elementos[i].equals(elemento)){
+            eliminaEn(b, i);
+            return;
+          }
+        }
+      }
+    }
+
+    /*
+     * Elimina el elemento en la posición i del bloque b. Si el bloque se queda
+     * vacío se desliga de la lista; si se queda a menos de la mitad y cabe en
+     * el siguiente, los dos bloques se juntan.
+     */
+    private void eliminaEn(Bloque b, int i) {
+      System.arraycopy(b.elementos, i + 1, b.elementos, i, b.cuenta - i - 1);
+      b.elementos[--b.cuenta] = null;
+      longitud--;
+      if(b.cuenta == 0){
+        desliga(b);
+      }else if(b.siguiente != null && b.cuenta < TAMANO_BLOQUE / 2 &&
+               b.cuenta + b.siguiente.cuenta <= TAMANO_BLOQUE){
+        Bloque s = b.siguiente;
+        System.arraycopy(s.elementos, 0, b.elementos, b.cuenta, s.cuenta);
+        b.cuenta += s.cuenta;
+        desliga(s);
+      }
+    }
+
+    /* Desliga un bloque de la lista. */
+    private void desliga(Bloque b) {
+      if(b.anterior == null)
+        cabeza = b.siguiente;
+      else
+        b.anterior.siguiente = b.siguiente;
+      if(b.siguiente == null)
+        rabo = b.anterior;
+      else
+        b.siguiente.anterior = b.anterior;
+    }
+
+    /**
+     * Elimina el primer elemento de la lista y lo regresa.
+     * @return el primer elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T eliminaPrimero() {
+      if(cabeza == null)
+        throw new NoSuchElementException();
+      T elementoEliminado = elemento(cabeza, 0);
+      eliminaEn(cabeza, 0);
+      return elementoEliminado;
+    }
+
+    /**
+     * Elimina el último elemento de la lista y lo regresa.
+     * @return el último elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T eliminaUltimo() {
+      if(cabeza == null)
+        throw new NoSuchElementException();
+      T elementoEliminado = elemento(rabo, rabo.cuenta - 1);
+      eliminaEn(rabo, rabo.cuenta - 1);
+      return elementoEliminado;
+    }
+
+    /**
+     * Nos dice si un elemento está en la lista.
+     * @param elemento el elemento que queremos saber si está en la lista.
+     * @return <tt>true</tt> si <tt>elemento</tt> está en la lista,
+     *         <tt>false</tt> en otro caso.
+     */
+    public boolean contiene(T elemento) {
+      return indiceDe(elemento) != -1;
+    }
+
+    /**
+     * Regresa la reversa de la lista.
+     * @return una nueva lista que es la reversa la que manda llamar el método.
+     */
+    public ListaDesenrollada<T> reversa() {
+      ListaDesenrollada<T> l = new ListaDesenrollada<>();
+      for(Bloque b = rabo; b != null; b = b.anterior)
+        for(int i = b.cuenta - 1; i >= 0; i--)
+          l.agregaFinal(ListaDesenrollada.<T>elemento(b, i));
+      return l;
+    }
+
+    /**
+     * Regresa una copia de la lista. La copia tiene los mismos elementos que la
+     * lista que manda llamar el método, en el mismo orden.
+     * @return una copiad de la lista.
+     */
+    public ListaDesenrollada<T> copia() {
+      ListaDesenrollada<T> l = new ListaDesenrollada<>();
+      for(Bloque b = cabeza; b != null; b = b.siguiente)
+        for(int i = 0; i < b.cuenta; i++)
+          l.agregaFinal(ListaDesenrollada.<T>elemento(b, i));
+      return l;
+    }
+
+    /**
+     * Limpia la lista de elementos. El llamar este método es equivalente a
+     * eliminar todos los elementos de la lista.
+     */
+    public void limpia() {
+      cabeza = null;
+      rabo = null;
+      longitud = 0;
+    }
+
+    /**
+     * Regresa el primer elemento de la lista.
+     * @return el primer elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T getPrimero() {
+      if(cabeza == null)
+        throw new NoSuchElementException();
+      return elemento(cabeza, 0);
+    }
+
+    /**
+     * Regresa el último elemento de la lista.
+     * @return el último elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T getUltimo() {
+      if(cabeza == null)
+        throw new NoSuchElementException();
+      return elemento(rabo, rabo.cuenta - 1);
+    }
+
+    /**
+     * Regresa el <em>i</em>-ésimo elemento de la lista. El recorrido salta
+     * bloques completos desde el extremo más cercano.
+     * @param i el índice del elemento que queremos.
+     * @return el <em>i</em>-ésimo elemento de la lista.
+     * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor o
+     *         igual que el número de elementos en la lista.
+     */
+    public T get(int i) {
+      if(i < 0 || i >= longitud)
+        throw new ExcepcionIndiceInvalido();
+      if(i < longitud / 2){
+        Bloque b = cabeza;
+        while(i >= b.cuenta){
+          i -= b.cuenta;
+          b = b.siguiente;
+        }
+        return elemento(b, i);
+      }
+      int desdeElFinal = longitud - 1 - i;
+      Bloque b = rabo;
+      while(desdeElFinal >= b.cuenta){
+        desdeElFinal -= b.cuenta;
+        b = b.anterior;
+      }
+      return elemento(b, b.cuenta - 1 - desdeElFinal);
+    }
+
+    /**
+     * Regresa el índice del elemento recibido en la lista.
+     * @param elemento el elemento del que se busca el índice.
+     * @return el índice del elemento recibido en la lista, o -1 si
+     *         el elemento no está contenido en la lista.
+     */
+    public int indiceDe(T elemento) {
+      int contador = 0;
+      for(Bloque b = cabeza; b != null; b = b.siguiente){
+        for(int i = 0; i < b.cuenta; i++){
+          if(b.elementos[i].equals(elemento))
+            return contador + i;
+        }
+        contador += b.cuenta;
+      }
+      return -1;
+    }
+
+    /**
+     * Regresa una representación en cadena de la lista.
+     * @return una representación en cadena de la lista.
+     */
+    @Override public String toString() {
+      StringBuilder sb = new StringBuilder("[");
+      for(Bloque b = cabeza; b != null; b = b.siguiente){
+        for(int i = 0; i < b.cuenta; i++){
+          if(sb.length() > 1)
+            sb.append(", ");
+          sb.append(b.elementos[i]);
+        }
+      }
+      return sb.append("]").toString();
+    }
+
+    /**
+     * Nos dice si la lista es igual al objeto recibido.
+     * @param o el objeto con el que hay que comparar.
+     * @return <tt>true</tt> si la lista es igual al objeto recibido;
+     *         <tt>false</tt> en otro caso.
+     */
+    @Override public boolean equals(Object o) {
+        if (o == null)
+            return false;
+        if (!(o instanceof ListaDesenrollada))
+            return false;
+        @SuppressWarnings("unchecked") ListaDesenrollada<T> lista =
+          (ListaDesenrollada<T>)o;
+        if(lista.longitud != this.longitud)
+          return false;
+        Iterator<T> it = lista.iterator();
+        for(T e : this)
+          if(!e.equals(it.next()))
+            return false;
+        return true;
+    }
+
+    /**
+     * Regresa un código de dispersión para la lista, consistente con {@link
+     * #equals}; es el mismo que calcula {@link java.util.List#hashCode}.
+     * @return un código de dispersión para la lista.
+     */
+    @Override public int hashCode() {
+      int dispersion = 1;
+      for(Bloque b = cabeza; b != null; b = b.siguiente)
+        for(int i = 0; i < b.cuenta; i++)
+          dispersion = 31 * dispersion + b.elementos[i].hashCode();
+      return dispersion;
+    }
+
+    /**
+     * Regresa un iterador para recorrer la lista en una dirección.
+     * @return un iterador para recorrer la lista en una dirección.
+     */
+    @Override public Iterator<T> iterator() {
+        return new Iterador();
+    }
+
+    /**
+     * Regresa un iterador para recorrer la lista en ambas direcciones.
+     * @return un iterador para recorrer la lista en ambas direcciones.
+     */
+    public IteradorLista<T> iteradorLista() {
+        return new Iterador();
+    }
+
+    /**
+     * Regresa una copia de la lista recibida, pero ordenada. La lista recibida
+     * tiene que contener nada más elementos que implementan la interfaz {@link
+     * Comparable}. El ordenamiento es estable.
+     * @param <T> tipo del que puede ser la lista.
+     * @param lista la lista que se ordenará.
+     * @return una copia de la lista recibida, pero ordenada.
+     */
+    public static <T extends Comparable<T>>
+    ListaDesenrollada<T> mergeSort(ListaDesenrollada<T> lista) {
+      Object[] a = new Object[lista.longitud];
+      int k = 0;
+      for(T e : lista)
+        a[k++] = e;
+      mergeSort(a, new Object[a.length], 0, a.length);
+      ListaDesenrollada<T> l = new ListaDesenrollada<>();
+      for(Object e : a){
+        @SuppressWarnings("unchecked") T t = (T)e;
+        l.agregaFinal(t);
+      }
+      return l;
+    }
+
+    /*
+     * Ordena el intervalo [ini, fin) del arreglo usando el arreglo auxiliar
+     * para las mezclas.
+     */
+    @SuppressWarnings("unchecked") private static <T extends Comparable<T>>
+    void mergeSort(Object[] a, Object[] aux, int ini, int fin) {
+      if(fin - ini < 2)
+        return;
+      int mitad = (ini + fin) >>> 1;
+      mergeSort(a, aux, ini, mitad);
+      mergeSort(a, aux, mitad, fin);
+      System.arraycopy(a, ini, aux, ini, fin - ini);
+      int i = ini, j = mitad;
+      for(int k = ini; k < fin; k++){
+        if(j >= fin || (i < mitad && ((T)aux[i]).compareTo((T)aux[j]) <= 0))
+          a[k] = aux[i++];
+        else
+          a[k] = aux[j++];
+      }
+    }
+
+    /**
+     * Busca un elemento en una lista ordenada. La lista recibida tiene que
+     * contener nada más elementos que implementan la interfaz {@link
+     * Comparable}, y se da por hecho que está ordenada.
+     * @param <T> tipo del que puede ser la lista.
+     * @param l la lista donde se buscará.
+     * @param e el elemento a buscar.
+     * @return <tt>true</tt> si e está contenido en la lista,
+     *         <tt>false</tt> en otro caso.
+     */
+    public static <T extends Comparable<T>>
+    boolean busquedaLineal(ListaDesenrollada<T> l, T e) {
+      for(T elemento : l)
+        if(elemento.compareTo(e) == 0)
+          return true;
+      return false;
+    }
+}
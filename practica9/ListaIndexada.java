@@ -0,0 +1,444 @@
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Clase genérica para listas doblemente ligadas indexadas.</p>
+ *
+ * <p>Además de la cadena de nodos, las listas indexadas mantienen un
+ * diccionario de cada elemento al primer nodo que lo contiene, y los nodos con
+ * elementos iguales están ligados entre sí en el orden de la lista. Con esto
+ * {@link #contiene} y {@link #elimina} cuestan O(1) en promedio en lugar de
+ * recorrer la lista, y {@link #indiceDe} cuesta O(1) si el elemento no está en
+ * la lista. A cambio, cada elemento ocupa más memoria que en {@link Lista}, y
+ * los elementos no deben cambiar su {@link Object#hashCode} mientras estén en
+ * la lista.</p>
+ *
+ * <p>El orden de los elementos, y por lo tanto el de los iteradores, es el
+ * mismo que tendría una {@link Lista} con las mismas operaciones. Las listas
+ * no aceptan a <code>null</code> como elemento.</p>
+ */
+public class ListaIndexada<T> implements Iterable<T> {
+
+    /* Clase Nodo privada para uso interno de la clase ListaIndexada. */
+    private static class Nodo<T> {
+      public T elemento;
+      public Nodo<T> anterior;
+      public Nodo<T> siguiente;
+      /*
+       * Nodo anterior con un elemento igual; en el primer nodo de los
+       * iguales, es el último de ellos.
+       */
+      public Nodo<T> anteriorIgual;
+      /* Nodo siguiente con un elemento igual, o null si es el último. */
+      public Nodo<T> siguienteIgual;
+
+      public Nodo(T elemento) {
+        this.elemento = elemento;
+      }
+    }
+
+    /* Clase Iterador privada para iteradores. */
+    private class Iterador implements IteradorLista<T> {
+        public Nodo<T> anterior;
+        public Nodo<T> siguiente;
+        /* Último nodo regresado por next o previous; null si no hay. */
+        public Nodo<T> ultimo;
+
+        public Iterador() {
+          start();
+        }
+
+        /* Nos dice si hay un elemento siguiente. */
+        @Override public boolean hasNext() {
+          return siguiente != null;
+        }
+
+        /* Nos da el elemento siguiente. */
+        @Override public T next() {
+          if(siguiente == null)
+            throw new NoSuchElementException();
+          anterior = siguiente;
+          siguiente = siguiente.siguiente;
+          ultimo = anterior;
+          return anterior.elemento;
+        }
+
+        /* Nos dice si hay un elemento anterior. */
+        @Override public boolean hasPrevious() {
+          return anterior != null;
+        }
+
+        /* Nos da el elemento anterior. */
+        @Override public T previous() {
+          if(anterior == null)
+            throw new NoSuchElementException();
+          siguiente = anterior;
+          anterior = anterior.anterior;
+          ultimo = siguiente;
+          return siguiente.elemento;
+        }
+
+        /* Mueve el iterador al inicio de la lista. */
+        @Override public void start() {
+          anterior = null;
+          siguiente = cabeza;
+          ultimo = null;
+        }
+
+        /* Mueve el iterador al final de la lista. */
+        @Override public void end() {
+          anterior = rabo;
+          siguiente = null;
+          ultimo = null;
+        }
+
+        /* Elimina el último elemento regresado por next o previous. */
+        @Override public void remove() {
+          if(ultimo == null)
+            throw new IllegalStateException();
+          if(ultimo == anterior)
+            anterior = ultimo.anterior;
+          else
+            siguiente = ultimo.siguiente;
+          desliga(ultimo);
+          ultimo = null;
+        }
+    }
+
+    /* Primer elemento de la lista. */
+    private Nodo<T> cabeza;
+    /* Último elemento de la lista. */
+    private Nodo<T> rabo;
+    /* Número de elementos en la lista. */
+    private int longitud;
+    /* Diccionario de cada elemento al primer nodo que lo contiene. */
+    private HashMap<T, Nodo<T>> indice;
+
+    /**
+     * Constructor único.
+     */
+    public ListaIndexada() {
+      indice = new HashMap<>();
+    }
+
+    /**
+     * Regresa la longitud de la lista.
+     * @return la longitud de la lista, el número de elementos que contiene.
+     */
+    public int getLongitud() {
+      return longitud;
+    }
+
+    /**
+     * Nos dice si la lista es vacía.
+     * @return <code>true</code> si la lista es vacía, <code>false</code> en
+     *         otro caso.
+     */
+    public boolean esVacia() {
+      return cabeza == null;
+    }
+
+    /**
+     * Agrega un elemento al final de la lista.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public void agregaFinal(T elemento) {
+      if(elemento == null)
+        throw new IllegalArgumentException();
+      Nodo<T> n = new Nodo<>(elemento);
+      if(cabeza == null){
+        cabeza = n;
+      }else{
+        rabo.siguiente = n;
+        n.anterior = rabo;
+      }
+      rabo = n;
+      longitud++;
+      Nodo<T> primero = indice.get(elemento);
+      if(primero == null){
+        n.anteriorIgual = n;
+        indice.put(elemento, n);
+      }else{
+        Nodo<T> ultimo = primero.anteriorIgual;
+        ultimo.siguienteIgual = n;
+        n.anteriorIgual = ultimo;
+        primero.anteriorIgual = n;
+      }
+    }
+
+    /**
+     * Agrega un elemento al inicio de la lista.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public void agregaInicio(T elemento) {
+      if(elemento == null)
+        throw new IllegalArgumentException();
+      Nodo<T> n = new Nodo<>(elemento);
+      if(cabeza == null){
+        rabo = n;
+      }else{
+        cabeza.anterior = n;
+        n.siguiente = cabeza;
+      }
+      cabeza = n;
+      longitud++;
+      Nodo<T> primero = indice.get(elemento);
+      if(primero == null){
+        n.anteriorIgual = n;
+      }else{
+        n.anteriorIgual = primero.anteriorIgual;
+        n.siguienteIgual = primero;
+        primero.anteriorIgual = n;
+      }
+      indice.put(elemento, n);
+    }
+
+    /**
+     * Elimina la primera aparición de un elemento de la lista. Si el elemento
+     * no está contenido en la lista, el método no la modifica. El método
+     * cuesta O(1) en promedio.
+     * @param elemento el elemento a eliminar.
+     */
+    public void elimina(T elemento) {
+      Nodo<T> n = indice.get(elemento);
+      if(n != null)
+        desliga(n);
+    }
+
+    /*
+     * Desliga el nodo recibido de la lista y de los nodos con elementos
+     * iguales, actualizando el diccionario.
+     */
+    private void desliga(Nodo<T> n) {
+      if(n.anterior == null)
+        cabeza = n.siguiente;
+      else
+        n.anterior.siguiente = n.siguiente;
+      if(n.siguiente == null)
+        rabo = n.anterior;
+      else
+        n.siguiente.anterior = n.anterior;
+      longitud--;
+
+      Nodo<T> primero = indice.get(n.elemento);
+      if(n == primero){
+        if(n.siguienteIgual == null){
+          indice.remove(n.elemento);
+        }else{
+          n.siguienteIgual.anteriorIgual = n.anteriorIgual;
+          indice.put(n.elemento, n.siguienteIgual);
+        }
+      }else{
+        n.anteriorIgual.siguienteIgual = n.siguienteIgual;
+        if(n.siguienteIgual == null)
+          primero.anteriorIgual = n.anteriorIgual;
+        else
+          n.siguienteIgual.anteriorIgual = n.anteriorIgual;
+      }
+    }
+
+    /**
+     * Elimina el primer elemento de la lista y lo regresa.
+     * @return el primer elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T eliminaPrimero() {
+      if(cabeza == null)
+        throw new NoSuchElementException();
+      T elementoEliminado = cabeza.elemento;
+      desliga(cabeza);
+      return elementoEliminado;
+    }
+
+    /**
+     * Elimina el último elemento de la lista y lo regresa.
+     * @return el último elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T eliminaUltimo() {
+      if(cabeza == null)
+        throw new NoSuchElementException();
+      T elementoEliminado = rabo.elemento;
+      desliga(rabo);
+      return elementoEliminado;
+    }
+
+    /**
+     * Nos dice si un elemento está en la lista. El método cuesta O(1) en
+     * promedio.
+     * @param elemento el elemento que queremos saber si está en la lista.
+     * @return <tt>true</tt> si <tt>elemento</tt> está en la lista,
+     *         <tt>false</tt> en otro caso.
+     */
+    public boolean contiene(T elemento) {
+      return indice.containsKey(elemento);
+    }
+
+    /**
+     * Regresa la reversa de la lista.
+     * @return una nueva lista que es la reversa la que manda llamar el método.
+     */
+    public ListaIndexada<T> reversa() {
+      ListaIndexada<T> l = new ListaIndexada<>();
+      for(Nodo<T> n = cabeza; n != null; n = n.siguiente)
+        l.agregaInicio(n.elemento);
+      return l;
+    }
+
+    /**
+     * Regresa una copia de la lista. La copia tiene los mismos elementos que la
+     * lista que manda llamar el método, en el mismo orden.
+     * @return una copiad de la lista.
+     */
+    public ListaIndexada<T> copia() {
+      ListaIndexada<T> l = new ListaIndexada<>();
+      for(Nodo<T> n = cabeza; n != null; n = n.siguiente)
+        l.agregaFinal(n.elemento);
+      return l;
+    }
+
+    /**
+     * Limpia la lista de elementos. El llamar este método es equivalente a
+     * eliminar todos los elementos de la lista.
+     */
+    public void limpia() {
+      cabeza = null;
+      rabo = null;
+      longitud = 0;
+      indice.clear();
+    }
+
+    /**
+     * Regresa el primer elemento de la lista.
+     * @return el primer elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T getPrimero() {
+      if(cabeza == null)
+        throw new NoSuchElementException();
+      return cabeza.elemento;
+    }
+
+    /**
+     * Regresa el último elemento de la lista.
+     * @return el último elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T getUltimo() {
+      if(cabeza == null)
+        throw new NoSuchElementException();
+      return rabo.elemento;
+    }
+
+    /**
+     * Regresa el <em>i</em>-ésimo elemento de la lista.
+     * @param i el índice del elemento que queremos.
+     * @return el <em>i</em>-ésimo elemento de la lista.
+     * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor o
+     *         igual que el número de elementos en la lista.
+     */
+    public T get(int i) {
+      if(i < 0 || i >= longitud)
+        throw new ExcepcionIndiceInvalido();
+      Nodo<T> n;
+      if(i < longitud / 2){
+        n = cabeza;
+        for(int j = 0; j < i; j++)
+          n = n.siguiente;
+      }else{
+        n = rabo;
+        for(int j = longitud - 1; j > i; j--)
+          n = n.anterior;
+      }
+      return n.elemento;
+    }
+
+    /**
+     * Regresa el índice del elemento recibido en la lista. Si el elemento no
+     * está en la lista el método cuesta O(1) en promedio; si está, el índice
+     * se cuenta desde su primer nodo hacia la cabeza.
+     * @param elemento el elemento del que se busca el índice.
+     * @return el índice del elemento recibido en la lista, o -1 si
+     *         el elemento no está contenido en la lista.
+     */
+    public int indiceDe(T elemento) {
+      Nodo<T> n = indice.get(elemento);
+      if(n == null)
+        return -1;
+      int contador = 0;
+      for(n = n.anterior; n != null; n = n.anterior)
+        contador++;
+      return contador;
+    }
+
+    /**
+     * Regresa una representación en cadena de la lista.
+     * @return una representación en cadena de la lista.
+     */
+    @Override public String toString() {
+      StringBuilder sb = new StringBuilder("[");
+      for(Nodo<T> n = cabeza; n != null; n = n.siguiente){
+        sb.append(n.elemento);
+        if(n.siguiente != null)
+          sb.append(", ");
+      }
+      return sb.append("]").toString();
+    }
+
+    /**
+     * Nos dice si la lista es igual al objeto recibido.
+     * @param o el objeto con el que hay que comparar.
+     * @return <tt>true</tt> si la lista es igual al objeto recibido;
+     *         <tt>false</tt> en otro caso.
+     */
+    @Override public boolean equals(Object o) {
+        if (o == null)
+            return false;
+        if (!(o instanceof ListaIndexada))
+            return false;
+        @SuppressWarnings("unchecked") ListaIndexada<T> lista =
+          (ListaIndexada<T>)o;
+        if(lista.longitud != this.longitud)
+          return false;
+        Nodo<T> nObjeto = lista.cabeza;
+        for(Nodo<T> n = cabeza; n != null; n = n.siguiente){
+          if(!n.elemento.equals(nObjeto.elemento))
+            return false;
+          nObjeto = nObjeto.siguiente;
+        }
+        return true;
+    }
+
+    /**
+     * Regresa un código de dispersión para la lista, consistente con {@link
+     * #equals}; es el mismo que calcula {@link java.util.List#hashCode}.
+     * @return un código de dispersión para la lista.
+     */
+    @Override public int hashCode() {
+      int dispersion = 1;
+      for(Nodo<T> n = cabeza; n != null; n = n.siguiente)
+        dispersion = 31 * dispersion + n.elemento.hashCode();
+      return dispersion;
+    }
+
+    /**
+     * Regresa un iterador para recorrer la lista en una dirección.
+     * @return un iterador para recorrer la lista en una dirección.
+     */
+    @Override public Iterator<T> iterator() {
+        return new Iterador();
+    }
+
+    /**
+     * Regresa un iterador para recorrer la lista en ambas direcciones.
+     * @return un iterador para recorrer la lista en ambas direcciones.
+     */
+    public IteradorLista<T> iteradorLista() {
+        return new Iterador();
+    }
+}
@@ -0,0 +1,203 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * <p>Clase para listas de enteros.</p>
+ *
+ * <p>A diferencia de una {@link Lista} de {@link Integer}, los elementos se
+ * guardan directamente en un arreglo de <code>int</code> que crece conforme
+ * se necesita, sin envolverlos en objetos ni en nodos. Esto las hace
+ * adecuadas para sacar columnas numéricas de una base de datos, como los
+ * números de cuenta de los estudiantes, y calcular estadísticas sobre
+ * ellas.</p>
+ */
+public class ListaInt {
+
+    /* Capacidad inicial del arreglo de elementos. */
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /* Arreglo con los elementos de la lista. */
+    private int[] elementos;
+    /* Número de elementos en la lista. */
+    private int longitud;
+
+    /**
+     * Construye una lista vacía.
+     */
+    public ListaInt() {
+      this(CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * Construye una lista vacía con espacio para el número de elementos
+     * recibido.
+     * @param capacidad el número de elementos para los que hay espacio.
+     * @throws IllegalArgumentException si la capacidad es negativa.
+     */
+    public ListaInt(int capacidad) {
+      if(capacidad < 0)
+        throw new IllegalArgumentException();
+      elementos = new int[capacidad];
+    }
+
+    /**
+     * Regresa la longitud de la lista.
+     * @return la longitud de la lista, el número de elementos que contiene.
+     */
+    public int getLongitud() {
+      return longitud;
+    }
+
+    /**
+     * Nos dice si la lista es vacía.
+     * @return <code>true</code> si la lista es vacía, <code>false</code> en
+     *         otro caso.
+     */
+    public boolean esVacia() {
+      return longitud == 0;
+    }
+
+    /**
+     * Agrega un elemento al final de la lista. Si el arreglo está lleno, su
+     * capacidad se duplica.
+     * @param elemento el elemento a agregar.
+     */
+    public void agregaFinal(int elemento) {
+      if(longitud == elementos.length)
+        elementos = Arrays.copyOf(elementos, Math.max(CAPACIDAD_INICIAL,
+                                                      2 * elementos.length));
+      elementos[longitud++] = elemento;
+    }
+
+    /**
+     * Elimina el último elemento de la lista y lo regresa.
+     * @return el último elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public int eliminaUltimo() {
+      if(longitud == 0)
+        throw new NoSuchElementException();
+      return elementos[--longitud];
+    }
+
+    /**
+     * Regresa el <em>i</em>-ésimo elemento de la lista.
+     * @param i el índice del elemento que queremos.
+     * @return el <em>i</em>-ésimo elemento de la lista.
+     * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor o
+     *         igual que el número de elementos en la lista.
+     */
+    public int get(int i) {
+      if(i < 0 || i >= longitud)
+        throw new ExcepcionIndiceInvalido();
+      return elementos[i];
+    }
+
+    /**
+     * Nos dice si un elemento está en la lista.
+     * @param elemento el elemento que queremos saber si está en la lista.
+     * @return <tt>true</tt> si <tt>elemento</tt> está en la lista,
+     *         <tt>false</tt> en otro caso.
+     */
+    public boolean contiene(int elemento) {
+      return indiceDe(elemento) != -1;
+    }
+
+    /**
+     * Regresa el índice del elemento recibido en la lista.
+     * @param elemento el elemento del que se busca el índice.
+     * @return el índice del elemento recibido en la lista, o -1 si
+     *         el elemento no está contenido en la lista.
+     */
+    public int indiceDe(int elemento) {
+      for(int i = 0; i < longitud; i++)
+        if(elementos[i] == elemento)
+          return i;
+      return -1;
+    }
+
+    /**
+     * Limpia la lista de elementos. La capacidad del arreglo no cambia.
+     */
+    public void limpia() {
+      longitud = 0;
+    }
+
+    /**
+     * Aplica la acción recibida a cada elemento de la lista, en orden.
+     * @param accion la acción a aplicar.
+     */
+    public void paraCada(IntConsumer accion) {
+      for(int i = 0; i < longitud; i++)
+        accion.accept(elementos[i]);
+    }
+
+    /**
+     * Regresa un stream con los elementos de la lista.
+     * @return un stream con los elementos de la lista.
+     */
+    public IntStream stream() {
+      return Arrays.stream(elementos, 0, longitud);
+    }
+
+    /**
+     * Ordena la lista de menor a mayor.
+     */
+    public void ordena() {
+      Arrays.sort(elementos, 0, longitud);
+    }
+
+    /**
+     * Regresa un arreglo con los elementos de la lista.
+     * @return un arreglo nuevo con los elementos de la lista, en orden.
+     */
+    public int[] toArreglo() {
+      return Arrays.copyOf(elementos, longitud);
+    }
+
+    /**
+     * Regresa una representación en cadena de la lista.
+     * @return una representación en cadena de la lista.
+     */
+    @Override public String toString() {
+      StringBuilder sb = new StringBuilder("[");
+      for(int i = 0; i < longitud; i++){
+        if(i > 0)
+          sb.append(", ");
+        sb.append(elementos[i]);
+      }
+      return sb.append("]").toString();
+    }
+
+    /**
+     * Nos dice si la lista es igual al objeto recibido.
+     * @param o el objeto con el que hay que comparar.
+     * @return <tt>true</tt> si la lista es igual al objeto recibido;
+     *         <tt>false</tt> en otro caso.
+     */
+    @Override public boolean equals(Object o) {
+      if(!(o instanceof ListaInt))
+        return false;
+      ListaInt lista = (ListaInt)o;
+      if(lista.longitud != longitud)
+        return false;
+      for(int i = 0; i < longitud; i++)
+        if(lista.elementos[i] != elementos[i])
+          return false;
+      return true;
+    }
+
+    /**
+     * Regresa un código de dispersión para la lista, consistente con {@link
+     * #equals}.
+     * @return un código de dispersión para la lista.
+     */
+    @Override public int hashCode() {
+      int h = 1;
+      for(int i = 0; i < longitud; i++)
+        h = 31 * h + Integer.hashCode(elementos[i]);
+      return h;
+    }
+}
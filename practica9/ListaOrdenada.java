@@ -0,0 +1,339 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * <p>Clase genérica para listas ordenadas.</p>
+ *
+ * <p>Las listas ordenadas mantienen sus elementos de menor a mayor en todo
+ * momento. Están implementadas con una <em>skip list</em>: además de la
+ * cadena de nodos de todos los elementos, cada nodo participa con
+ * probabilidad 1/2 en la cadena del nivel siguiente, y cada referencia guarda
+ * cuántos elementos se salta. Así agregar, buscar, eliminar, calcular el
+ * rango de un elemento y obtener el <em>i</em>-ésimo elemento cuestan O(log
+ * n) en promedio.</p>
+ *
+ * <p>Las listas ordenadas implementan la interfaz {@link Iterable}, y se
+ * recorren en orden. Los elementos iguales se quedan en el orden en que se
+ * agregaron. Las listas no aceptan a <code>null</code> como elemento.</p>
+ */
+public class ListaOrdenada<T extends Comparable<T>> implements Iterable<T> {
+
+    /* Número máximo de niveles de la lista. */
+    private static final int MAXIMO_NIVELES = 32;
+
+    /* Clase Nodo privada para uso interno de la clase ListaOrdenada. */
+    private static class Nodo<T> {
+      public T elemento;
+      /* Siguiente nodo en cada nivel en que participa el nodo. */
+      public Nodo<T>[] siguientes;
+      /* Número de elementos que se salta cada referencia siguiente. */
+      public int[] anchos;
+
+      @SuppressWarnings("unchecked") public Nodo(T elemento, int niveles) {
+        this.elemento = elemento;
+        siguientes = (Nodo<T>[])new Nodo<?>[niveles];
+        anchos = new int[niveles];
+      }
+    }
+
+    /* Nodo centinela antes del primer elemento, con todos los niveles. */
+    private Nodo<T> cabeza;
+    /* Número de niveles en uso. */
+    private int niveles;
+    /* Número de elementos en la lista. */
+    private int longitud;
+    /* Generador para los niveles de los nodos nuevos. */
+    private Random aleatorio;
+
+    /**
+     * Constructor único.
+     */
+    public ListaOrdenada() {
+      cabeza = new Nodo<>(null, MAXIMO_NIVELES);
+      niveles = 1;
+      aleatorio = new Random();
+    }
+
+    /* Regresa un número de niveles para un nodo nuevo. */
+    private int nivelesAleatorios() {
+      int n = 1;
+      while(n < MAXIMO_NIVELES && aleatorio.nextBoolean())
+        n++;
+      return n;
+    }
+
+    /**
+     * Regresa la longitud de la lista.
+     * @return la longitud de la lista, el número de elementos que contiene.
+     */
+    public int getLongitud() {
+      return longitud;
+    }
+
+    /**
+     * Nos dice si la lista es vacía.
+     * @return <code>true</code> si la lista es vacía, <code>false</code> en
+     *         otro caso.
+     */
+    public boolean esVacia() {
+      return longitud == 0;
+    }
+
+    /**
+     * Agrega un elemento a la lista, en su lugar de acuerdo al orden. Si ya
+     * hay elementos iguales, el nuevo queda después de ellos.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    @SuppressWarnings("unchecked") public void agrega(T elemento) {
+      if(elemento == null)
+        throw new IllegalArgumentException();
+      Nodo<T>[] anteriores = (Nodo<T>[])new Nodo<?>[MAXIMO_NIVELES];
+      int[] posiciones = new int[MAXIMO_NIVELES];
+      Nodo<T> x = cabeza;
+      int posicion = 0;
+      for(int i = niveles - 1; i >= 0; i--){
+        while(x.siguientes[i] != null &&
+              x.siguientes[i].elemento.compareTo(elemento) <= 0){
+          posicion += x.anchos[i];
+          x = x.siguientes[i];
+        }
+        anteriores[i] = x;
+        posiciones[i] = posicion;
+      }
+      int nivelesNodo = nivelesAleatorios();
+      for(; niveles < nivelesNodo; niveles++){
+        anteriores[niveles] = cabeza;
+        posiciones[niveles] = 0;
+        cabeza.anchos[niveles] = longitud + 1;
+      }
+      Nodo<T> n = new Nodo<>(elemento, nivelesNodo);
+      for(int i = 0; i < nivelesNodo; i++){
+        int salto = posicion - posiciones[i];
+        n.siguientes[i] = anteriores[i].siguientes[i];
+        anteriores[i].siguientes[i] = n;
+        n.anchos[i] = anteriores[i].anchos[i] - salto;
+        anteriores[i].anchos[i] = salto + 1;
+      }
+      for(int i = nivelesNodo; i < niveles; i++)
+        anteriores[i].anchos[i]++;
+      longitud++;
+    }
+
+    /**
+     * Elimina un elemento igual al recibido de la lista, usando {@link
+     * Comparable#compareTo} para compararlos. Si no hay ninguno, el método no
+     * modifica la lista.
+     * @param elemento el elemento a eliminar.
+     */
+    @SuppressWarnings("unchecked") public void elimina(T elemento) {
+      if(elemento == null)
+        return;
+      Nodo<T>[] anteriores = (Nodo<T>[])new Nodo<?>[MAXIMO_NIVELES];
+      Nodo<T> x = cabeza;
+      for(int i = niveles - 1; i >= 0; i--){
+        while(x.siguientes[i] != null &&
+              x.siguientes[i].elemento.compareTo(elemento) < 0)
+          x = x.siguientes[i];
+        anteriores[i] = x;
+      }
+      Nodo<T> n = x.siguientes[0];
+      if(n == null || n.elemento.compareTo(elemento) != 0)
+        return;
+      for(int i = 0; i < niveles; i++){
+        if(anteriores[i].siguientes[i] == n){
+          anteriores[i].siguientes[i] = n.siguientes[i];
+          anteriores[i].anchos[i] += n.anchos[i] - 1;
+        }else{
+          anteriores[i].anchos[i]--;
+        }
+      }
+      while(niveles > 1 && cabeza.siguientes[niveles - 1] == null)
+        niveles--;
+      longitud--;
+    }
+
+    /*
+     * Regresa el último nodo con un elemento menor (o menor o igual, si
+     * incluyeIguales) que el recibido, o la cabeza si no hay ninguno.
+     */
+    private Nodo<T> ultimoMenor(T elemento, boolean incluyeIguales) {
+      Nodo<T> x = cabeza;
+      for(int i = niveles - 1; i >= 0; i--){
+        while(x.siguientes[i] != null){
+          int c = x.siguientes[i].elemento.compareTo(elemento);
+          if(c > 0 || (c == 0 && !incluyeIguales))
+            break;
+          x = x.siguientes[i];
+        }
+      }
+      return x;
+    }
+
+    /**
+     * Nos dice si un elemento igual al recibido está en la lista, usando
+     * {@link Comparable#compareTo} para compararlos.
+     * @param elemento el elemento que queremos saber si está en la lista.
+     * @return <tt>true</tt> si <tt>elemento</tt> está en la lista,
+     *         <tt>false</tt> en otro caso.
+     */
+    public boolean contiene(T elemento) {
+      if(elemento == null)
+        return false;
+      T techo = techo(elemento);
+      return techo != null && techo.compareTo(elemento) == 0;
+    }
+
+    /**
+     * Regresa el rango del elemento recibido: el número de elementos en la
+     * lista que son menores que él. Si el elemento está en la lista, es el
+     * índice de su primera aparición.
+     * @param elemento el elemento del que queremos el rango.
+     * @return el número de elementos menores que <tt>elemento</tt>.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public int rango(T elemento) {
+      if(elemento == null)
+        throw new IllegalArgumentException();
+      Nodo<T> x = cabeza;
+      int posicion = 0;
+      for(int i = niveles - 1; i >= 0; i--){
+        while(x.siguientes[i] != null &&
+              x.siguientes[i].elemento.compareTo(elemento) < 0){
+          posicion += x.anchos[i];
+          x = x.siguientes[i];
+        }
+      }
+      return posicion;
+    }
+
+    /**
+     * Regresa el mayor elemento de la lista que es menor o igual que el
+     * recibido.
+     * @param elemento el elemento a buscar.
+     * @return el mayor elemento menor o igual que <tt>elemento</tt>, o
+     *         <code>null</code> si no hay ninguno.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public T piso(T elemento) {
+      if(elemento == null)
+        throw new IllegalArgumentException();
+      Nodo<T> x = ultimoMenor(elemento, true);
+      return x == cabeza ? null : x.elemento;
+    }
+
+    /**
+     * Regresa el menor elemento de la lista que es mayor o igual que el
+     * recibido.
+     * @param elemento el elemento a buscar.
+     * @return el menor elemento mayor o igual que <tt>elemento</tt>, o
+     *         <code>null</code> si no hay ninguno.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *         <code>null</code>.
+     */
+    public T techo(T elemento) {
+      if(elemento == null)
+        throw new IllegalArgumentException();
+      Nodo<T> n = ultimoMenor(elemento, false).siguientes[0];
+      return n == null ? null : n.elemento;
+    }
+
+    /**
+     * Regresa el <em>i</em>-ésimo elemento de la lista, en orden.
+     * @param i el índice del elemento que queremos.
+     * @return el <em>i</em>-ésimo elemento de la lista.
+     * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor o
+     *         igual que el número de elementos en la lista.
+     */
+    public T get(int i) {
+      if(i < 0 || i >= longitud)
+        throw new ExcepcionIndiceInvalido();
+      Nodo<T> x = cabeza;
+      int posicion = 0;
+      for(int nivel = niveles - 1; nivel >= 0; nivel--){
+        while(x.siguientes[nivel] != null &&
+              posicion + x.anchos[nivel] <= i + 1){
+          posicion += x.anchos[nivel];
+          x = x.siguientes[nivel];
+        }
+      }
+      return x.elemento;
+    }
+
+    /**
+     * Regresa el primer elemento de la lista, el menor.
+     * @return el primer elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T getPrimero() {
+      if(longitud == 0)
+        throw new NoSuchElementException();
+      return cabeza.siguientes[0].elemento;
+    }
+
+    /**
+     * Regresa el último elemento de la lista, el mayor.
+     * @return el último elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T getUltimo() {
+      if(longitud == 0)
+        throw new NoSuchElementException();
+      Nodo<T> x = cabeza;
+      for(int i = niveles - 1; i >= 0; i--)
+        while(x.siguientes[i] != null)
+          x = x.siguientes[i];
+      return x.elemento;
+    }
+
+    /**
+     * Limpia la lista de elementos. El llamar este método es equivalente a
+     * eliminar todos los elementos de la lista.
+     */
+    public void limpia() {
+      for(int i = 0; i < niveles; i++)
+        cabeza.siguientes[i] = null;
+      niveles = 1;
+      longitud = 0;
+    }
+
+    /**
+     * Regresa una representación en cadena de la lista.
+     * @return una representación en cadena de la lista.
+     */
+    @Override public String toString() {
+      StringBuilder sb = new StringBuilder("[");
+      for(Nodo<T> n = cabeza.siguientes[0]; n != null; n = n.siguientes[0]){
+        sb.append(n.elemento);
+        if(n.siguientes[0] != null)
+          sb.append(", ");
+      }
+      return sb.append("]").toString();
+    }
+
+    /**
+     * Regresa un iterador para recorrer la lista en orden.
+     * @return un iterador para recorrer la lista en orden.
+     */
+    @Override public Iterator<T> iterator() {
+      return new Iterator<T>() {
+        private Nodo<T> siguiente = cabeza.siguientes[0];
+
+        @Override public boolean hasNext() {
+          return siguiente != null;
+        }
+
+        @Override public T next() {
+          if(siguiente == null)
+            throw new NoSuchElementException();
+          T elemento = siguiente.elemento;
+          siguiente = siguiente.siguientes[0];
+          return elemento;
+        }
+      };
+    }
+}